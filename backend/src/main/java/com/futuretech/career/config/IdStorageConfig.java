@@ -0,0 +1,17 @@
+package com.futuretech.career.config;
+
+import com.futuretech.career.model.UuidStorageType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdStorageConfig {
+    
+    // Hands the setting to Hibernate, where UuidStorageType reads it while the mapping is built
+    @Bean
+    public HibernatePropertiesCustomizer uuidStorageCustomizer(@Value("${app.ids.storage:text}") String storage) {
+        return properties -> properties.put(UuidStorageType.STORAGE_SETTING, storage);
+    }
+}
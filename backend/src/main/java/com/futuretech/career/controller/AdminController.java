@@ -1,9 +1,12 @@
 package com.futuretech.career.controller;
 
 import com.futuretech.career.dto.ApiResponse;
+import com.futuretech.career.dto.CursorResponse;
 import com.futuretech.career.dto.DashboardStats;
 import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.SearchHit;
 import com.futuretech.career.model.*;
+import com.futuretech.career.security.JwtClaimsCache;
 import com.futuretech.career.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,6 +27,7 @@ public class AdminController {
     private final TestimonialService testimonialService;
     private final ContentService contentService;
     private final SEOService seoService;
+    private final JwtClaimsCache jwtClaimsCache;
     
     @GetMapping("/dashboard")
     public ResponseEntity<ApiResponse<DashboardStats>> getDashboardStats() {
@@ -29,14 +35,33 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
     
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<SearchHit>>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(adminService.search(q, limit)));
+    }
+    
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jwtClaims", jwtClaimsCache.getStats());
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+    
     // Inquiry Management
     @GetMapping("/inquiries")
-    public ResponseEntity<ApiResponse<PaginationResponse<Inquiry>>> getAllInquiries(
+    public ResponseEntity<ApiResponse<?>> getAllInquiries(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(required = false) Boolean status) {
+            @RequestParam(required = false) Boolean status,
+            @RequestParam(required = false) String after) {
         
         Boolean isRead = status != null && status ? true : null;
+        if (after != null) {
+            CursorResponse<Inquiry> cursorPage = adminService.getInquiriesAfter(after, limit, isRead);
+            return ResponseEntity.ok(ApiResponse.success(cursorPage));
+        }
         PaginationResponse<Inquiry> response = adminService.getAllInquiries(page, limit, isRead);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -59,10 +84,16 @@ public class AdminController {
     
     // Feedback Management
     @GetMapping("/feedback")
-    public ResponseEntity<ApiResponse<PaginationResponse<Feedback>>> getAllFeedback(
+    public ResponseEntity<ApiResponse<?>> getAllFeedback(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String after) {
+        
+        if (after != null) {
+            CursorResponse<Feedback> cursorPage = adminService.getFeedbackAfter(after, limit, status);
+            return ResponseEntity.ok(ApiResponse.success(cursorPage));
+        }
         
         PaginationResponse<Feedback> response = adminService.getAllFeedback(page, limit, status);
         return ResponseEntity.ok(ApiResponse.success(response));
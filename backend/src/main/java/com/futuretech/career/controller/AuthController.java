@@ -4,18 +4,23 @@ import com.futuretech.career.dto.ApiResponse;
 import com.futuretech.career.dto.LoginRequest;
 import com.futuretech.career.dto.LoginResponse;
 import com.futuretech.career.dto.RegisterRequest;
+import com.futuretech.career.security.ClientIpResolver;
 import com.futuretech.career.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
     
     private final AuthService authService;
+    private final ClientIpResolver clientIpResolver;
     
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<LoginResponse>> register(@Valid @RequestBody RegisterRequest request) {
@@ -24,8 +29,9 @@ public class AuthController {
     }
     
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
-        return ResponseEntity.ok(ApiResponse.success(response));
+    public CompletableFuture<ResponseEntity<ApiResponse<LoginResponse>>> login(@Valid @RequestBody LoginRequest request,
+                                                                               HttpServletRequest httpRequest) {
+        return authService.login(request, clientIpResolver.resolve(httpRequest))
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
     }
 }
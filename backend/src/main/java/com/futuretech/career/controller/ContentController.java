@@ -3,7 +3,9 @@ package com.futuretech.career.controller;
 import com.futuretech.career.dto.ApiResponse;
 import com.futuretech.career.model.Content;
 import com.futuretech.career.service.ContentService;
+import com.futuretech.career.service.PublicResponseCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,11 +15,14 @@ import org.springframework.web.bind.annotation.*;
 public class ContentController {
     
     private final ContentService contentService;
+    private final PublicResponseCache responseCache;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<java.util.List<Content>>> getAllContent() {
-        java.util.List<Content> content = contentService.getAllContent();
-        return ResponseEntity.ok(ApiResponse.success(content));
+    public ResponseEntity<byte[]> getAllContent(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.respond(ContentService.RESPONSE_FAMILY, ContentService.RESPONSE_FAMILY,
+                contentService::getAllContent, acceptEncoding, ifNoneMatch);
     }
     
     @GetMapping("/{section}")
@@ -1,16 +1,19 @@
 package com.futuretech.career.controller;
 
 import com.futuretech.career.dto.ApiResponse;
-import com.futuretech.career.model.Company;
-import com.futuretech.career.model.Partner;
+import com.futuretech.career.dto.PaginationResponse;
 import com.futuretech.career.model.Testimonial;
 import com.futuretech.career.service.CompanyService;
 import com.futuretech.career.service.PartnerService;
+import com.futuretech.career.service.PublicResponseCache;
 import com.futuretech.career.service.TestimonialService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,21 +26,34 @@ public class PublicController {
     private final CompanyService companyService;
     private final PartnerService partnerService;
     private final TestimonialService testimonialService;
+    private final PublicResponseCache responseCache;
     
     @GetMapping("/companies/active")
-    public ResponseEntity<ApiResponse<List<Company>>> getActiveCompanies() {
-        List<Company> companies = companyService.getActiveCompanies();
-        return ResponseEntity.ok(ApiResponse.success(companies));
+    public ResponseEntity<byte[]> getActiveCompanies(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.respond(CompanyService.RESPONSE_FAMILY, CompanyService.RESPONSE_FAMILY,
+                companyService::getActiveCompanies, acceptEncoding, ifNoneMatch);
     }
     
     @GetMapping("/partners/active")
-    public ResponseEntity<ApiResponse<List<Partner>>> getActivePartners() {
-        List<Partner> partners = partnerService.getActivePartners();
-        return ResponseEntity.ok(ApiResponse.success(partners));
+    public ResponseEntity<byte[]> getActivePartners(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.respond(PartnerService.RESPONSE_FAMILY, PartnerService.RESPONSE_FAMILY,
+                partnerService::getActivePartners, acceptEncoding, ifNoneMatch);
     }
     
     @GetMapping("/public/feedback")
-    public ResponseEntity<ApiResponse<List<Testimonial>>> getApprovedTestimonials() {
+    public ResponseEntity<ApiResponse<?>> getApprovedTestimonials(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        
+        if (size != null && size > 0) {
+            PaginationResponse<Testimonial> response = testimonialService.getApprovedTestimonials(page, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+        
         List<Testimonial> testimonials = testimonialService.getApprovedTestimonials();
         return ResponseEntity.ok(ApiResponse.success(testimonials));
     }
@@ -1,9 +1,9 @@
 package com.futuretech.career.controller;
 
-import com.futuretech.career.dto.ApiResponse;
-import com.futuretech.career.model.SEO;
+import com.futuretech.career.service.PublicResponseCache;
 import com.futuretech.career.service.SEOService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,10 +13,14 @@ import org.springframework.web.bind.annotation.*;
 public class SEOController {
     
     private final SEOService seoService;
+    private final PublicResponseCache responseCache;
     
     @GetMapping("/{page}")
-    public ResponseEntity<ApiResponse<SEO>> getSEOByPage(@PathVariable String page) {
-        SEO seo = seoService.getSEOByPage(page);
-        return ResponseEntity.ok(ApiResponse.success(seo));
+    public ResponseEntity<byte[]> getSEOByPage(
+            @PathVariable String page,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return responseCache.respond(SEOService.RESPONSE_FAMILY, SEOService.RESPONSE_FAMILY + ":" + page,
+                () -> seoService.getSEOByPage(page), acceptEncoding, ifNoneMatch);
     }
 }
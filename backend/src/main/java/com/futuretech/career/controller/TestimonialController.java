@@ -1,32 +1,47 @@
 package com.futuretech.career.controller;
 
-import com.futuretech.career.dto.ApiResponse;
-import com.futuretech.career.model.Testimonial;
+import com.futuretech.career.service.PublicResponseCache;
 import com.futuretech.career.service.TestimonialService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/testimonials")
 @RequiredArgsConstructor
 public class TestimonialController {
     
+    // Larger limits are served uncached so arbitrary values cannot grow the cache
+    private static final int MAX_CACHED_LIMIT = 100;
+    
     private final TestimonialService testimonialService;
+    private final PublicResponseCache responseCache;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Testimonial>>> getActiveTestimonials(
-            @RequestParam(required = false) Integer limit) {
-        List<Testimonial> testimonials = testimonialService.getActiveTestimonials(limit);
-        return ResponseEntity.ok(ApiResponse.success(testimonials));
+    public ResponseEntity<byte[]> getActiveTestimonials(
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(limit, acceptEncoding, ifNoneMatch);
     }
     
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<Testimonial>>> getActiveTestimonialsAlt(
-            @RequestParam(required = false) Integer limit) {
-        List<Testimonial> testimonials = testimonialService.getActiveTestimonials(limit);
-        return ResponseEntity.ok(ApiResponse.success(testimonials));
+    public ResponseEntity<byte[]> getActiveTestimonialsAlt(
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(limit, acceptEncoding, ifNoneMatch);
+    }
+    
+    private ResponseEntity<byte[]> respond(Integer limit, String acceptEncoding, String ifNoneMatch) {
+        Integer effectiveLimit = limit != null && limit > 0 ? limit : null;
+        if (effectiveLimit != null && effectiveLimit > MAX_CACHED_LIMIT) {
+            return responseCache.respondUncached(TestimonialService.RESPONSE_FAMILY,
+                    () -> testimonialService.getActiveTestimonials(effectiveLimit), acceptEncoding, ifNoneMatch);
+        }
+        String key = TestimonialService.RESPONSE_FAMILY + ":" + (effectiveLimit == null ? "all" : effectiveLimit);
+        return responseCache.respond(TestimonialService.RESPONSE_FAMILY, key,
+                () -> testimonialService.getActiveTestimonials(effectiveLimit), acceptEncoding, ifNoneMatch);
     }
 }
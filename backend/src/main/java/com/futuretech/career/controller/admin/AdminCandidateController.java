@@ -1,17 +1,37 @@
 package com.futuretech.career.controller.admin;
 
 import com.futuretech.career.dto.ApiResponse;
+import com.futuretech.career.dto.BatchUpdateResult;
+import com.futuretech.career.dto.CandidateImportReport;
+import com.futuretech.career.dto.CandidateNotesBatchRequest;
 import com.futuretech.career.dto.CandidateRequest;
+import com.futuretech.career.dto.CandidateStageBatchRequest;
+import com.futuretech.career.dto.CandidateSummary;
+import com.futuretech.career.dto.CursorResponse;
 import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.PositionMatch;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.Candidate;
+import com.futuretech.career.service.CandidateImportService;
 import com.futuretech.career.service.CandidateService;
+import com.futuretech.career.service.ExportFormat;
+import com.futuretech.career.service.ExportService;
+import com.futuretech.career.service.MatchingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,34 +40,65 @@ import java.util.Map;
 public class AdminCandidateController {
     
     private final CandidateService candidateService;
+    private final CandidateImportService candidateImportService;
+    private final MatchingService matchingService;
+    private final ExportService exportService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<PaginationResponse<Candidate>>> getAllCandidates(
+    public ResponseEntity<ApiResponse<?>> getAllCandidates(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String jobOpeningId,
             @RequestParam(required = false) String interviewStage,
-            @RequestParam(required = false) String finalStatus) {
+            @RequestParam(required = false) String finalStatus,
+            @RequestParam(required = false) String after) {
+        
+        if (after != null) {
+            CursorResponse<CandidateSummary> cursorPage = candidateService.getCandidatesAfter(
+                    after, size, jobOpeningId, interviewStage, finalStatus);
+            return ResponseEntity.ok(ApiResponse.success(cursorPage));
+        }
         
-        Page<Candidate> candidatePage;
+        SliceResponse<CandidateSummary> response;
         if (jobOpeningId != null) {
-            candidatePage = candidateService.getCandidatesByJobOpening(jobOpeningId, page, size);
+            response = candidateService.getCandidatesByJobOpening(jobOpeningId, page, size);
         } else if (interviewStage != null) {
-            candidatePage = candidateService.getCandidatesByInterviewStage(interviewStage, page, size);
+            response = candidateService.getCandidatesByInterviewStage(interviewStage, page, size);
         } else if (finalStatus != null) {
-            candidatePage = candidateService.getCandidatesByFinalStatus(finalStatus, page, size);
+            response = candidateService.getCandidatesByFinalStatus(finalStatus, page, size);
         } else {
-            candidatePage = candidateService.getAllCandidates(page, size);
+            response = candidateService.getAllCandidates(page, size);
         }
         
-        PaginationResponse<Candidate> response = new PaginationResponse<>(
-                candidatePage.getContent(),
-                candidatePage.getNumber(),
-                candidatePage.getSize(),
-                candidatePage.getTotalElements(),
-                candidatePage.getTotalPages()
-        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCandidates(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String jobOpeningId,
+            @RequestParam(required = false) String interviewStage,
+            @RequestParam(required = false) String finalStatus) {
+        
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        StreamingResponseBody body = exportService.exportCandidates(exportFormat, gzip, jobOpeningId, interviewStage, finalStatus);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName("candidates", gzip)).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.contentType(gzip)))
+                .body(body);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PaginationResponse<CandidateSummary>>> searchCandidates(
+            @RequestParam(required = false) String skills,
+            @RequestParam(defaultValue = "and") String match,
+            @RequestParam(required = false) Double minExp,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
         
+        PaginationResponse<CandidateSummary> response = candidateService.searchCandidates(skills, match, minExp, page, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
@@ -57,6 +108,15 @@ public class AdminCandidateController {
         return ResponseEntity.ok(ApiResponse.success(candidate));
     }
     
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<ApiResponse<List<PositionMatch>>> getMatchingPositions(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        List<PositionMatch> matches = matchingService.matchPositions(id, limit);
+        return ResponseEntity.ok(ApiResponse.success(matches));
+    }
+    
     @PostMapping
     public ResponseEntity<ApiResponse<Candidate>> createCandidate(@Valid @RequestBody CandidateRequest request) {
         Candidate candidate = candidateService.createCandidate(request);
@@ -64,6 +124,19 @@ public class AdminCandidateController {
                 .body(ApiResponse.success(candidate));
     }
     
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<CandidateImportReport>> importCandidates(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        
+        ExportFormat importFormat = ExportFormat.parse(format != null
+                ? format : StringUtils.getFilenameExtension(file.getOriginalFilename()));
+        try (InputStream input = file.getInputStream()) {
+            CandidateImportReport report = candidateImportService.importCandidates(input, importFormat);
+            return ResponseEntity.ok(ApiResponse.success(report));
+        }
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Candidate>> updateCandidate(
             @PathVariable String id,
@@ -91,6 +164,22 @@ public class AdminCandidateController {
         return ResponseEntity.ok(ApiResponse.success(candidate));
     }
     
+    @PatchMapping("/batch/interview-stage")
+    public ResponseEntity<ApiResponse<BatchUpdateResult>> updateInterviewStageBatch(
+            @Valid @RequestBody CandidateStageBatchRequest request) {
+        
+        BatchUpdateResult result = candidateService.updateInterviewStageBatch(request.getIds(), request.getInterviewStage());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    @PatchMapping("/batch/hr-notes")
+    public ResponseEntity<ApiResponse<BatchUpdateResult>> updateHRNotesBatch(
+            @Valid @RequestBody CandidateNotesBatchRequest request) {
+        
+        BatchUpdateResult result = candidateService.updateHRNotesBatch(request.getIds(), request.getHrNotes());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteCandidate(@PathVariable String id) {
         candidateService.deleteCandidate(id);
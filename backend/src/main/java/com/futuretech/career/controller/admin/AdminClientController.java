@@ -2,15 +2,22 @@ package com.futuretech.career.controller.admin;
 
 import com.futuretech.career.dto.ApiResponse;
 import com.futuretech.career.dto.ClientRequest;
+import com.futuretech.career.dto.ClientSummary;
 import com.futuretech.career.dto.PaginationResponse;
 import com.futuretech.career.model.Client;
 import com.futuretech.career.service.ClientService;
+import com.futuretech.career.service.ExportFormat;
+import com.futuretech.career.service.ExportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,15 +27,16 @@ import java.util.List;
 public class AdminClientController {
     
     private final ClientService clientService;
+    private final ExportService exportService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<PaginationResponse<Client>>> getAllClients(
+    public ResponseEntity<ApiResponse<PaginationResponse<ClientSummary>>> getAllClients(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search) {
         
-        Page<Client> clientPage;
+        Page<ClientSummary> clientPage;
         if (search != null && !search.isEmpty()) {
             clientPage = clientService.searchClients(search, page, size);
         } else if (status != null) {
@@ -37,7 +45,7 @@ public class AdminClientController {
             clientPage = clientService.getAllClients(page, size);
         }
         
-        PaginationResponse<Client> response = new PaginationResponse<>(
+        PaginationResponse<ClientSummary> response = new PaginationResponse<>(
                 clientPage.getContent(),
                 clientPage.getNumber(),
                 clientPage.getSize(),
@@ -48,6 +56,21 @@ public class AdminClientController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportClients(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String status) {
+        
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        StreamingResponseBody body = exportService.exportClients(exportFormat, gzip, status);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName("clients", gzip)).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.contentType(gzip)))
+                .body(body);
+    }
+    
     @GetMapping("/active")
     public ResponseEntity<ApiResponse<List<Client>>> getActiveClients() {
         List<Client> clients = clientService.getActiveClients();
@@ -2,15 +2,22 @@ package com.futuretech.career.controller.admin;
 
 import com.futuretech.career.dto.ApiResponse;
 import com.futuretech.career.dto.ContractRequest;
-import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.ContractSummary;
+import com.futuretech.career.dto.CursorResponse;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.Contract;
 import com.futuretech.career.service.ContractService;
+import com.futuretech.career.service.ExportFormat;
+import com.futuretech.career.service.ExportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,39 +28,54 @@ import java.util.Map;
 public class AdminContractController {
     
     private final ContractService contractService;
+    private final ExportService exportService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<PaginationResponse<Contract>>> getAllContracts(
+    public ResponseEntity<ApiResponse<?>> getAllContracts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String clientId,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String after) {
+        
+        if (after != null) {
+            CursorResponse<ContractSummary> cursorPage = contractService.getContractsAfter(after, size, clientId, status);
+            return ResponseEntity.ok(ApiResponse.success(cursorPage));
+        }
         
-        Page<Contract> contractPage;
+        SliceResponse<ContractSummary> response;
         if (clientId != null) {
-            contractPage = contractService.getContractsByClient(clientId, page, size);
+            response = contractService.getContractsByClient(clientId, page, size);
         } else if (status != null) {
-            contractPage = contractService.getContractsByStatus(status, page, size);
+            response = contractService.getContractsByStatus(status, page, size);
         } else {
-            contractPage = contractService.getAllContracts(page, size);
+            response = contractService.getAllContracts(page, size);
         }
         
-        PaginationResponse<Contract> response = new PaginationResponse<>(
-                contractPage.getContent(),
-                contractPage.getNumber(),
-                contractPage.getSize(),
-                contractPage.getTotalElements(),
-                contractPage.getTotalPages()
-        );
-        
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContracts(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String clientId,
+            @RequestParam(required = false) String status) {
+        
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        StreamingResponseBody body = exportService.exportContracts(exportFormat, gzip, clientId, status);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName("contracts", gzip)).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.contentType(gzip)))
+                .body(body);
+    }
+    
     @GetMapping("/expiring")
-    public ResponseEntity<ApiResponse<List<Contract>>> getExpiringContracts(
+    public ResponseEntity<ApiResponse<List<ContractSummary>>> getExpiringContracts(
             @RequestParam(defaultValue = "30") int days) {
         
-        List<Contract> contracts = contractService.getExpiringContracts(days);
+        List<ContractSummary> contracts = contractService.getExpiringContracts(days);
         return ResponseEntity.ok(ApiResponse.success(contracts));
     }
     
@@ -1,13 +1,13 @@
 package com.futuretech.career.controller.admin;
 
 import com.futuretech.career.dto.ApiResponse;
+import com.futuretech.career.dto.CursorResponse;
 import com.futuretech.career.dto.JobOpeningRequest;
-import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.JobOpening;
 import com.futuretech.career.service.JobOpeningService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,31 +20,29 @@ public class AdminJobOpeningController {
     private final JobOpeningService jobOpeningService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<PaginationResponse<JobOpening>>> getAllJobOpenings(
+    public ResponseEntity<ApiResponse<?>> getAllJobOpenings(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String department) {
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String after) {
         
-        Page<JobOpening> jobPage;
+        if (after != null) {
+            CursorResponse<JobOpening> cursorPage = jobOpeningService.getJobOpeningsAfter(after, size, status, department);
+            return ResponseEntity.ok(ApiResponse.success(cursorPage));
+        }
+        
+        SliceResponse<JobOpening> response;
         if (status != null && department != null) {
-            jobPage = jobOpeningService.getJobOpeningsByStatusAndDepartment(status, department, page, size);
+            response = jobOpeningService.getJobOpeningsByStatusAndDepartment(status, department, page, size);
         } else if (status != null) {
-            jobPage = jobOpeningService.getJobOpeningsByStatus(status, page, size);
+            response = jobOpeningService.getJobOpeningsByStatus(status, page, size);
         } else if (department != null) {
-            jobPage = jobOpeningService.getJobOpeningsByDepartment(department, page, size);
+            response = jobOpeningService.getJobOpeningsByDepartment(department, page, size);
         } else {
-            jobPage = jobOpeningService.getAllJobOpenings(page, size);
+            response = jobOpeningService.getAllJobOpenings(page, size);
         }
         
-        PaginationResponse<JobOpening> response = new PaginationResponse<>(
-                jobPage.getContent(),
-                jobPage.getNumber(),
-                jobPage.getSize(),
-                jobPage.getTotalElements(),
-                jobPage.getTotalPages()
-        );
-        
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
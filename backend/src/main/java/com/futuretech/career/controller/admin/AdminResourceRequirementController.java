@@ -1,13 +1,15 @@
 package com.futuretech.career.controller.admin;
 
 import com.futuretech.career.dto.ApiResponse;
-import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.CandidateMatch;
 import com.futuretech.career.dto.ResourceRequirementRequest;
+import com.futuretech.career.dto.ResourceRequirementSummary;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.ResourceRequirement;
+import com.futuretech.career.service.MatchingService;
 import com.futuretech.career.service.ResourceRequirementService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,37 +23,30 @@ import java.util.Map;
 public class AdminResourceRequirementController {
     
     private final ResourceRequirementService resourceRequirementService;
+    private final MatchingService matchingService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<PaginationResponse<ResourceRequirement>>> getAllResourceRequirements(
+    public ResponseEntity<ApiResponse<SliceResponse<ResourceRequirementSummary>>> getAllResourceRequirements(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String clientId,
             @RequestParam(required = false) String status) {
         
-        Page<ResourceRequirement> resourcePage;
+        SliceResponse<ResourceRequirementSummary> response;
         if (clientId != null) {
-            resourcePage = resourceRequirementService.getResourceRequirementsByClient(clientId, page, size);
+            response = resourceRequirementService.getResourceRequirementsByClient(clientId, page, size);
         } else if (status != null) {
-            resourcePage = resourceRequirementService.getResourceRequirementsByStatus(status, page, size);
+            response = resourceRequirementService.getResourceRequirementsByStatus(status, page, size);
         } else {
-            resourcePage = resourceRequirementService.getAllResourceRequirements(page, size);
+            response = resourceRequirementService.getAllResourceRequirements(page, size);
         }
         
-        PaginationResponse<ResourceRequirement> response = new PaginationResponse<>(
-                resourcePage.getContent(),
-                resourcePage.getNumber(),
-                resourcePage.getSize(),
-                resourcePage.getTotalElements(),
-                resourcePage.getTotalPages()
-        );
-        
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     @GetMapping("/open")
-    public ResponseEntity<ApiResponse<List<ResourceRequirement>>> getOpenResourceRequirements() {
-        List<ResourceRequirement> requirements = resourceRequirementService.getOpenResourceRequirements();
+    public ResponseEntity<ApiResponse<List<ResourceRequirementSummary>>> getOpenResourceRequirements() {
+        List<ResourceRequirementSummary> requirements = resourceRequirementService.getOpenResourceRequirements();
         return ResponseEntity.ok(ApiResponse.success(requirements));
     }
     
@@ -61,6 +56,15 @@ public class AdminResourceRequirementController {
         return ResponseEntity.ok(ApiResponse.success(resourceRequirement));
     }
     
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<ApiResponse<List<CandidateMatch>>> getMatchingCandidates(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        List<CandidateMatch> matches = matchingService.matchCandidates(id, limit);
+        return ResponseEntity.ok(ApiResponse.success(matches));
+    }
+    
     @PostMapping
     public ResponseEntity<ApiResponse<ResourceRequirement>> createResourceRequirement(
             @Valid @RequestBody ResourceRequirementRequest request) {
@@ -0,0 +1,27 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpdateResult {
+    public static final String UPDATED = "updated";
+    public static final String NOT_FOUND = "not_found";
+    
+    private int requested;
+    private int updated;
+    private List<Outcome> results;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private String id;
+        private String status;
+    }
+}
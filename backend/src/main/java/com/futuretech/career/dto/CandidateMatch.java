@@ -0,0 +1,16 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatch {
+    private String candidateId;
+    private double score;
+    private int matchedSkills;
+    private int requiredSkills;
+    private CandidateSummary candidate;
+}
@@ -0,0 +1,17 @@
+package com.futuretech.career.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CandidateNotesBatchRequest {
+    
+    @NotEmpty(message = "At least one candidate ID is required")
+    @Size(max = 1000, message = "At most 1000 candidates can be updated at once")
+    private List<String> ids;
+    
+    private String hrNotes;
+}
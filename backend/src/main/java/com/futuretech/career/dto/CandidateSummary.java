@@ -0,0 +1,28 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the admin candidate list. Skills, HR notes and URLs are only on the detail view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSummary {
+    private String id;
+    private String name;
+    private String email;
+    private String phone;
+    private String currentCompany;
+    private Double totalExperience;
+    private String interviewStage;
+    private String finalStatus;
+    private String jobOpeningId;
+    private String jobOpeningTitle;
+    private LocalDateTime appliedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the admin client list. Address, website and notes are only on the detail view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSummary {
+    private String id;
+    private String name;
+    private String companyName;
+    private String email;
+    private String phone;
+    private String industry;
+    private String contactPerson;
+    private String status;
+    private LocalDateTime createdAt;
+}
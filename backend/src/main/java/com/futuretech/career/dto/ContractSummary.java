@@ -0,0 +1,28 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the admin contract list. Description, terms and notes are only on the detail view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractSummary {
+    private String id;
+    private String name;
+    private String contractNumber;
+    private String clientId;
+    private String clientName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double contractValue;
+    private String currency;
+    private String status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package com.futuretech.career.dto;
+
+import com.futuretech.career.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in a list sorted by (timestamp DESC, id DESC), encoded as {@code <timestamp>,<id>}.
+ * A blank cursor means "start from the newest row".
+ */
+@Data
+@AllArgsConstructor
+public class PageCursor {
+    
+    // Sorts after every real row, so the first page can use the same seek query
+    private static final PageCursor START = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+    
+    private LocalDateTime timestamp;
+    private String id;
+    
+    public static PageCursor parse(String after) {
+        if (after == null || after.isBlank()) {
+            return START;
+        }
+        int idx = after.lastIndexOf(',');
+        if (idx <= 0 || idx == after.length() - 1) {
+            throw new BadRequestException("Invalid cursor: " + after);
+        }
+        try {
+            return new PageCursor(LocalDateTime.parse(after.substring(0, idx).trim()), after.substring(idx + 1).trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + after);
+        }
+    }
+    
+    public static String encode(LocalDateTime timestamp, String id) {
+        return timestamp + "," + id;
+    }
+}
@@ -0,0 +1,18 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionMatch {
+    private String type; // resourceRequirement, jobOpening
+    private String id;
+    private String title;
+    private String location;
+    private double score;
+    private int matchedSkills;
+    private int requiredSkills;
+}
@@ -0,0 +1,33 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the admin resource requirement list. Description, skills and notes are only on
+ * the detail view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRequirementSummary {
+    private String id;
+    private String role;
+    private String clientId;
+    private String clientName;
+    private String projectName;
+    private Integer requiredCount;
+    private Integer fulfilledCount;
+    private String experienceLevel;
+    private Double minExperience;
+    private Double maxExperience;
+    private String location;
+    private String status;
+    private String priority;
+    private LocalDate startDate;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    private String type; // candidate, client, contract, jobOpening, company, inquiry
+    private String id;
+    private String title;
+    private String subtitle;
+    private double score;
+}
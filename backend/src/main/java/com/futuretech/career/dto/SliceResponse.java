@@ -0,0 +1,40 @@
+package com.futuretech.career.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Count-free counterpart of {@link PaginationResponse}. The page itself comes from a
+ * {@link Slice}; {@code totalElements} is a cached, possibly slightly stale count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private long totalElements;
+    private int totalPages;
+    
+    public static <T> SliceResponse<T> of(Slice<T> slice, long cachedTotal) {
+        // A cached total may lag behind inserts; never report fewer rows than this slice proves exist
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(cachedTotal, seen);
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+        
+        return new SliceResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext(),
+                total,
+                totalPages
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.futuretech.career.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,21 +8,22 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "candidates")
+@Table(name = "candidates", indexes = {
+    @Index(name = "idx_candidates_applied_id", columnList = "applied_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Candidate {
     
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
-    @Column(columnDefinition = "VARCHAR(36)")
+    @TimeOrderedUuid
+    @Type(UuidStorageType.class)
     private String id;
     
     @NotBlank(message = "Candidate name is required")
@@ -67,6 +69,7 @@ public class Candidate {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_opening_id", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private JobOpening jobOpening;
     
     @Column(name = "applied_at", updatable = false)
@@ -1,5 +1,6 @@
 package com.futuretech.career.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -7,7 +8,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,9 +22,8 @@ import java.util.List;
 public class Client {
     
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
-    @Column(columnDefinition = "VARCHAR(36)")
+    @TimeOrderedUuid
+    @Type(UuidStorageType.class)
     private String id;
     
     @NotBlank(message = "Client name is required")
@@ -63,9 +63,11 @@ public class Client {
     @Column(columnDefinition = "TEXT")
     private String notes;
     
+    @JsonIgnore
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL)
     private List<Contract> contracts = new ArrayList<>();
     
+    @JsonIgnore
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL)
     private List<ResourceRequirement> resourceRequirements = new ArrayList<>();
     
@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 public class Content {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
     
     @Column(nullable = false, unique = true)
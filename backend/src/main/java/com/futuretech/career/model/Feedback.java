@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "feedback", indexes = {
-    @Index(name = "idx_status_created", columnList = "status, createdAt")
+    @Index(name = "idx_status_created", columnList = "status, createdAt"),
+    @Index(name = "idx_feedback_created_id", columnList = "createdAt, id")
 })
 @Data
 @NoArgsConstructor
@@ -22,15 +23,16 @@ import java.time.LocalDateTime;
 public class Feedback {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
     
     @NotBlank(message = "Name is required")
-    @Size(min = 3, message = "Name must be at least 3 characters")
+    @Size(min = 3, max = 255, message = "Name must be between 3 and 255 characters")
     @Column(nullable = false)
     private String name;
     
     @Email(message = "Invalid email format")
+    @Size(max = 255, message = "Email must be at most 255 characters")
     private String email;
     
     @NotNull(message = "Rating is required")
@@ -40,7 +42,7 @@ public class Feedback {
     private Integer rating;
     
     @NotBlank(message = "Feedback is required")
-    @Size(min = 10, message = "Feedback must be at least 10 characters")
+    @Size(min = 10, max = 10000, message = "Feedback must be between 10 and 10000 characters")
     @Column(nullable = false, columnDefinition = "TEXT")
     private String feedback;
     
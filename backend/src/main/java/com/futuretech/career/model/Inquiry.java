@@ -8,7 +8,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
+import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "inquiries", indexes = {
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_inquiries_created_id", columnList = "createdAt, id")
 })
 @Data
 @NoArgsConstructor
@@ -25,7 +26,8 @@ import java.time.LocalDateTime;
 public class Inquiry {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(UuidStorageType.class)
     private String id;
     
     @NotBlank(message = "Full name is required")
@@ -55,11 +57,18 @@ public class Inquiry {
     @Column(nullable = false)
     private Boolean isRead = false;
     
-    @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Keeps a submission time set before a write-behind replay
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
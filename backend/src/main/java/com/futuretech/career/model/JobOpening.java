@@ -1,28 +1,31 @@
 package com.futuretech.career.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "job_openings")
+@Table(name = "job_openings", indexes = {
+    @Index(name = "idx_job_openings_created_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobOpening {
     
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
-    @Column(columnDefinition = "VARCHAR(36)")
+    @TimeOrderedUuid
+    @Type(UuidStorageType.class)
     private String id;
     
     @NotBlank(message = "Job title is required")
@@ -68,8 +71,10 @@ public class JobOpening {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Company company;
     
+    @JsonIgnore
     @OneToMany(mappedBy = "jobOpening", cascade = CascadeType.ALL)
     private List<Candidate> candidates = new ArrayList<>();
     
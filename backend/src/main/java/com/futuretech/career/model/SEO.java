@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
 public class SEO {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
     
     @Column(nullable = false, unique = true)
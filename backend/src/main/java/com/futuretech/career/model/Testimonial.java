@@ -21,7 +21,7 @@ import java.time.LocalDateTime;
 public class Testimonial {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
     
     private String feedbackId;
@@ -0,0 +1,182 @@
+package com.futuretech.career.model;
+
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.hibernate.type.spi.TypeConfigurationAware;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Maps a String UUID attribute to the column layout chosen by {@code app.ids.storage}:
+ * {@code text} keeps VARCHAR(36), {@code binary} stores the 16 raw bytes and {@code native}
+ * uses the database uuid type (PostgreSQL). Entities keep exposing the canonical String form.
+ * <p>
+ * The mode is read from the Hibernate configuration of the persistence unit that builds the
+ * mapping (see {@code IdStorageConfig}) by {@link Contributor}, so it is fixed per entity
+ * manager factory.
+ */
+public class UuidStorageType implements UserType<String>, TypeConfigurationAware {
+    
+    public static final String STORAGE_SETTING = "app.ids.storage";
+    
+    public enum Mode { TEXT, BINARY, NATIVE }
+    
+    // Filled by Contributor, which Hibernate runs before it binds any entity mapping
+    private static final Map<TypeConfiguration, Mode> MODES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private TypeConfiguration typeConfiguration;
+    private Mode mode = Mode.TEXT;
+    
+    @Override
+    public TypeConfiguration getTypeConfiguration() {
+        return typeConfiguration;
+    }
+    
+    // Hibernate calls this right after instantiating the type, while the mapping is being built
+    @Override
+    public void setTypeConfiguration(TypeConfiguration typeConfiguration) {
+        this.typeConfiguration = typeConfiguration;
+        mode = MODES.getOrDefault(typeConfiguration, Mode.TEXT);
+    }
+    
+    @Override
+    public int getSqlType() {
+        return switch (mode) {
+            case TEXT -> SqlTypes.VARCHAR;
+            case BINARY -> SqlTypes.BINARY;
+            case NATIVE -> SqlTypes.UUID;
+        };
+    }
+    
+    @Override
+    public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+        return mode == Mode.BINARY ? 16 : 36;
+    }
+    
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+    
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+    
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+    
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        switch (mode) {
+            case BINARY:
+                byte[] bytes = rs.getBytes(position);
+                if (bytes == null) {
+                    return null;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case NATIVE:
+                UUID uuid = rs.getObject(position, UUID.class);
+                return uuid != null ? uuid.toString() : null;
+            default:
+                return rs.getString(position);
+        }
+    }
+    
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (mode == Mode.TEXT) {
+            if (value == null) {
+                st.setNull(index, Types.VARCHAR);
+            } else {
+                st.setString(index, value);
+            }
+            return;
+        }
+        // A malformed id can never match a stored key; bind NULL so lookups miss instead of failing
+        UUID uuid = parse(value);
+        if (mode == Mode.BINARY) {
+            if (uuid == null) {
+                st.setNull(index, Types.BINARY);
+            } else {
+                st.setBytes(index, ByteBuffer.allocate(16)
+                        .putLong(uuid.getMostSignificantBits())
+                        .putLong(uuid.getLeastSignificantBits())
+                        .array());
+            }
+        } else if (uuid == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, uuid);
+        }
+    }
+    
+    private static UUID parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+    
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+    
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+    
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+    
+    /**
+     * Resolves {@code app.ids.storage} for a persistence unit from its service registry.
+     * Registered through {@code META-INF/services/org.hibernate.boot.model.TypeContributor}.
+     */
+    public static class Contributor implements TypeContributor {
+        
+        @Override
+        public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+            String storage = serviceRegistry.requireService(ConfigurationService.class)
+                    .getSetting(STORAGE_SETTING, String.class, "text");
+            MODES.put(typeContributions.getTypeConfiguration(), Mode.valueOf(storage.trim().toUpperCase(Locale.ROOT)));
+        }
+    }
+}
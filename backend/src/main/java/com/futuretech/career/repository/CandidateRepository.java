@@ -1,16 +1,32 @@
 package com.futuretech.career.repository;
 
+import com.futuretech.career.dto.CandidateSummary;
 import com.futuretech.career.model.Candidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, String> {
     
+    String SUMMARY_SELECT = "SELECT new com.futuretech.career.dto.CandidateSummary(c.id, c.name, c.email, c.phone, " +
+           "c.currentCompany, c.totalExperience, c.interviewStage, c.finalStatus, j.id, j.title, " +
+           "c.appliedAt, c.updatedAt) FROM Candidate c JOIN c.jobOpening j";
+    
     Page<Candidate> findByJobOpeningId(String jobOpeningId, Pageable pageable);
     
     Page<Candidate> findByInterviewStage(String interviewStage, Pageable pageable);
@@ -19,7 +35,99 @@ public interface CandidateRepository extends JpaRepository<Candidate, String> {
     
     Page<Candidate> findByJobOpeningIdAndInterviewStage(String jobOpeningId, String interviewStage, Pageable pageable);
     
+    @Query(SUMMARY_SELECT)
+    Slice<CandidateSummary> findSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE j.id = :jobOpeningId")
+    Slice<CandidateSummary> findSummariesByJobOpeningId(@Param("jobOpeningId") String jobOpeningId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE c.interviewStage = :interviewStage")
+    Slice<CandidateSummary> findSummariesByInterviewStage(@Param("interviewStage") String interviewStage, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE c.finalStatus = :finalStatus")
+    Slice<CandidateSummary> findSummariesByFinalStatus(@Param("finalStatus") String finalStatus, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE c.id IN :ids")
+    List<CandidateSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+    
+    @Query("SELECT c.id FROM Candidate c WHERE c.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
+    
+    @Modifying
+    @Query("UPDATE Candidate c SET c.interviewStage = :interviewStage, c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int updateInterviewStage(@Param("ids") Collection<String> ids,
+                             @Param("interviewStage") String interviewStage,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Modifying
+    @Query("UPDATE Candidate c SET c.hrNotes = :hrNotes, c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int updateHrNotes(@Param("ids") Collection<String> ids,
+                      @Param("hrNotes") String hrNotes,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+    
     List<Candidate> findByJobOpeningId(String jobOpeningId);
     
     long countByJobOpeningId(String jobOpeningId);
+    
+    long countByInterviewStage(String interviewStage);
+    
+    long countByFinalStatus(String finalStatus);
+    
+    @Query(SUMMARY_SELECT + " WHERE " +
+           "(:jobOpeningId IS NULL OR j.id = :jobOpeningId) AND " +
+           "(:interviewStage IS NULL OR c.interviewStage = :interviewStage) AND " +
+           "(:finalStatus IS NULL OR c.finalStatus = :finalStatus) AND " +
+           "(c.appliedAt < :appliedAt OR (c.appliedAt = :appliedAt AND c.id < :id)) " +
+           "ORDER BY c.appliedAt DESC, c.id DESC")
+    List<CandidateSummary> findPageAfter(@Param("appliedAt") LocalDateTime appliedAt,
+                                         @Param("id") String id,
+                                         @Param("jobOpeningId") String jobOpeningId,
+                                         @Param("interviewStage") String interviewStage,
+                                         @Param("finalStatus") String finalStatus,
+                                         Pageable pageable);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Candidate c JOIN FETCH c.jobOpening j WHERE " +
+           "(:jobOpeningId IS NULL OR j.id = :jobOpeningId) AND " +
+           "(:interviewStage IS NULL OR c.interviewStage = :interviewStage) AND " +
+           "(:finalStatus IS NULL OR c.finalStatus = :finalStatus) " +
+           "ORDER BY c.appliedAt DESC, c.id DESC")
+    Stream<Candidate> streamForExport(@Param("jobOpeningId") String jobOpeningId,
+                                      @Param("interviewStage") String interviewStage,
+                                      @Param("finalStatus") String finalStatus);
+    
+    @Query("SELECT c.id AS id, c.skills AS skills, c.totalExperience AS totalExperience, " +
+           "c.jobOpening.location AS location FROM Candidate c")
+    List<SkillRow> findAllSkillRows();
+    
+    interface SkillRow {
+        String getId();
+        
+        String getSkills();
+        
+        Double getTotalExperience();
+        
+        String getLocation();
+    }
+    
+    @Override
+    @EntityGraph(attributePaths = "jobOpening")
+    List<Candidate> findAllById(Iterable<String> ids);
+    
+    @Query("SELECT c.id AS id, c.name AS name, c.email AS email, c.skills AS skills, " +
+           "c.currentCompany AS currentCompany FROM Candidate c")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getName();
+        
+        String getEmail();
+        
+        String getSkills();
+        
+        String getCurrentCompany();
+    }
 }
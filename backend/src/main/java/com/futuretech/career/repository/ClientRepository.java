@@ -1,25 +1,55 @@
 package com.futuretech.career.repository;
 
+import com.futuretech.career.dto.ClientSummary;
 import com.futuretech.career.model.Client;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, String> {
     
-    Page<Client> findByStatus(String status, Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.futuretech.career.dto.ClientSummary(c.id, c.name, c.companyName, " +
+           "c.email, c.phone, c.industry, c.contactPerson, c.status, c.createdAt) FROM Client c";
     
-    @Query("SELECT c FROM Client c WHERE " +
-           "LOWER(c.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(c.companyName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(c.email) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Client> searchClients(@Param("search") String search, Pageable pageable);
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(c) FROM Client c")
+    Page<ClientSummary> findSummaries(Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Client c WHERE c.status = :status")
+    Page<ClientSummary> findSummariesByStatus(@Param("status") String status, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE c.id IN :ids")
+    List<ClientSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
     
     List<Client> findByStatus(String status);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Client c WHERE (:status IS NULL OR c.status = :status) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Stream<Client> streamForExport(@Param("status") String status);
+    
+    @Query("SELECT c.id AS id, c.name AS name, c.companyName AS companyName, c.email AS email FROM Client c")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getName();
+        
+        String getCompanyName();
+        
+        String getEmail();
+    }
 }
@@ -4,6 +4,7 @@ import com.futuretech.career.model.Company;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +17,17 @@ public interface CompanyRepository extends JpaRepository<Company, String> {
     Page<Company> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
     Page<Company> findByIsActiveOrderByCreatedAtDesc(Boolean isActive, Pageable pageable);
+    
+    @Query("SELECT c.id AS id, c.name AS name, c.industry AS industry, c.location AS location FROM Company c")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getName();
+        
+        String getIndustry();
+        
+        String getLocation();
+    }
 }
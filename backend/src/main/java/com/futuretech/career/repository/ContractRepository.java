@@ -1,26 +1,82 @@
 package com.futuretech.career.repository;
 
+import com.futuretech.career.dto.ContractSummary;
 import com.futuretech.career.model.Contract;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, String> {
     
+    String SUMMARY_SELECT = "SELECT new com.futuretech.career.dto.ContractSummary(c.id, c.name, c.contractNumber, " +
+           "cl.id, cl.name, c.startDate, c.endDate, c.contractValue, c.currency, c.status, c.createdAt) " +
+           "FROM Contract c JOIN c.client cl";
+    
     Page<Contract> findByClientId(String clientId, Pageable pageable);
     
     Page<Contract> findByStatus(String status, Pageable pageable);
     
+    @Query(SUMMARY_SELECT)
+    Slice<ContractSummary> findSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE cl.id = :clientId")
+    Slice<ContractSummary> findSummariesByClientId(@Param("clientId") String clientId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE c.status = :status")
+    Slice<ContractSummary> findSummariesByStatus(@Param("status") String status, Pageable pageable);
+    
     List<Contract> findByClientId(String clientId);
     
-    @Query("SELECT c FROM Contract c WHERE c.endDate BETWEEN :startDate AND :endDate")
-    List<Contract> findExpiringContracts(LocalDate startDate, LocalDate endDate);
+    @Query(SUMMARY_SELECT + " WHERE c.endDate BETWEEN :startDate AND :endDate")
+    List<ContractSummary> findExpiringContracts(LocalDate startDate, LocalDate endDate);
     
     long countByClientId(String clientId);
+    
+    long countByStatus(String status);
+    
+    @Query(SUMMARY_SELECT + " WHERE " +
+           "(:clientId IS NULL OR cl.id = :clientId) AND " +
+           "(:status IS NULL OR c.status = :status) AND " +
+           "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContractSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") String id,
+                                        @Param("clientId") String clientId,
+                                        @Param("status") String status,
+                                        Pageable pageable);
+    
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Contract c JOIN FETCH c.client cl WHERE " +
+           "(:clientId IS NULL OR cl.id = :clientId) AND " +
+           "(:status IS NULL OR c.status = :status) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Stream<Contract> streamForExport(@Param("clientId") String clientId, @Param("status") String status);
+    
+    @Query("SELECT c.id AS id, c.name AS name, c.contractNumber AS contractNumber, " +
+           "c.description AS description FROM Contract c")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getName();
+        
+        String getContractNumber();
+        
+        String getDescription();
+    }
 }
@@ -4,8 +4,11 @@ import com.futuretech.career.model.Feedback;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,4 +17,13 @@ public interface FeedbackRepository extends JpaRepository<Feedback, String> {
     Page<Feedback> findAllByOrderByCreatedAtDesc(Pageable pageable);
     long countByStatus(String status);
     List<Feedback> findByStatusOrderByCreatedAtDesc(String status);
+    
+    @Query("SELECT f FROM Feedback f WHERE " +
+           "(:status IS NULL OR f.status = :status) AND " +
+           "(f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Feedback> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") String id,
+                                 @Param("status") String status,
+                                 Pageable pageable);
 }
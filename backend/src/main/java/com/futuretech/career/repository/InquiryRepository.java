@@ -4,11 +4,41 @@ import com.futuretech.career.model.Inquiry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, String> {
     Page<Inquiry> findByIsRead(Boolean isRead, Pageable pageable);
     Page<Inquiry> findAllByOrderByCreatedAtDesc(Pageable pageable);
     long countByIsRead(Boolean isRead);
+    
+    @Query("SELECT i FROM Inquiry i WHERE " +
+           "(:isRead IS NULL OR i.isRead = :isRead) AND " +
+           "(i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquiry> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") String id,
+                                @Param("isRead") Boolean isRead,
+                                Pageable pageable);
+    
+    @Query("SELECT i.id AS id, i.fullName AS fullName, i.email AS email, " +
+           "i.inquiryType AS inquiryType, i.message AS message FROM Inquiry i")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getFullName();
+        
+        String getEmail();
+        
+        String getInquiryType();
+        
+        String getMessage();
+    }
 }
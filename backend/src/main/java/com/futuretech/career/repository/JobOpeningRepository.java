@@ -3,9 +3,14 @@ package com.futuretech.career.repository;
 import com.futuretech.career.model.JobOpening;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,7 +22,61 @@ public interface JobOpeningRepository extends JpaRepository<JobOpening, String>
     
     Page<JobOpening> findByStatusAndDepartment(String status, String department, Pageable pageable);
     
+    @EntityGraph(attributePaths = "company")
     Page<JobOpening> findByCompanyId(String companyId, Pageable pageable);
     
+    @EntityGraph(attributePaths = "company")
+    Slice<JobOpening> findSliceBy(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "company")
+    Slice<JobOpening> findSliceByStatus(String status, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "company")
+    Slice<JobOpening> findSliceByDepartment(String department, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "company")
+    Slice<JobOpening> findSliceByStatusAndDepartment(String status, String department, Pageable pageable);
+    
     List<JobOpening> findByStatus(String status);
+    
+    long countByStatus(String status);
+    
+    long countByDepartment(String department);
+    
+    long countByStatusAndDepartment(String status, String department);
+    
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM JobOpening j WHERE " +
+           "(:status IS NULL OR j.status = :status) AND " +
+           "(:department IS NULL OR j.department = :department) AND " +
+           "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobOpening> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") String id,
+                                   @Param("status") String status,
+                                   @Param("department") String department,
+                                   Pageable pageable);
+    
+    @Query("SELECT j.id AS id, j.location AS location FROM JobOpening j")
+    List<LocationRow> findAllLocationRows();
+    
+    interface LocationRow {
+        String getId();
+        
+        String getLocation();
+    }
+    
+    @Query("SELECT j.id AS id, j.title AS title, j.department AS department, " +
+           "j.location AS location FROM JobOpening j")
+    List<SearchRow> findAllSearchRows();
+    
+    interface SearchRow {
+        String getId();
+        
+        String getTitle();
+        
+        String getDepartment();
+        
+        String getLocation();
+    }
 }
@@ -1,8 +1,12 @@
 package com.futuretech.career.repository;
 
+import com.futuretech.career.dto.ResourceRequirementSummary;
 import com.futuretech.career.model.ResourceRequirement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,15 +15,34 @@ import java.util.List;
 @Repository
 public interface ResourceRequirementRepository extends JpaRepository<ResourceRequirement, String> {
     
+    String SUMMARY_SELECT = "SELECT new com.futuretech.career.dto.ResourceRequirementSummary(r.id, r.role, cl.id, " +
+           "cl.name, r.projectName, r.requiredCount, r.fulfilledCount, r.experienceLevel, r.minExperience, " +
+           "r.maxExperience, r.location, r.status, r.priority, r.startDate, r.createdAt) " +
+           "FROM ResourceRequirement r JOIN r.client cl";
+    
     Page<ResourceRequirement> findByClientId(String clientId, Pageable pageable);
     
     Page<ResourceRequirement> findByStatus(String status, Pageable pageable);
     
     Page<ResourceRequirement> findByClientIdAndStatus(String clientId, String status, Pageable pageable);
     
+    @Query(SUMMARY_SELECT)
+    Slice<ResourceRequirementSummary> findSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE cl.id = :clientId")
+    Slice<ResourceRequirementSummary> findSummariesByClientId(@Param("clientId") String clientId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE r.status = :status")
+    Slice<ResourceRequirementSummary> findSummariesByStatus(@Param("status") String status, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE r.status = :status ORDER BY r.createdAt DESC")
+    List<ResourceRequirementSummary> findSummariesByStatus(@Param("status") String status);
+    
     List<ResourceRequirement> findByClientId(String clientId);
     
     List<ResourceRequirement> findByStatus(String status);
     
     long countByClientId(String clientId);
+    
+    long countByStatus(String status);
 }
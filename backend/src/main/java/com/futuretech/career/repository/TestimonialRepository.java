@@ -11,6 +11,7 @@ import java.util.List;
 @Repository
 public interface TestimonialRepository extends JpaRepository<Testimonial, String> {
     List<Testimonial> findByIsActiveTrueOrderByCreatedAtDesc();
+    List<Testimonial> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
     Page<Testimonial> findByIsActive(Boolean isActive, Pageable pageable);
     Page<Testimonial> findAllByOrderByCreatedAtDesc(Pageable pageable);
     long countByIsActive(Boolean isActive);
@@ -0,0 +1,23 @@
+package com.futuretech.career.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClientIpResolver {
+    
+    @Value("${app.client-ip.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+    
+    public String resolve(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            // The last hop is the one appended by our own proxy; earlier ones are client-supplied
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -2,6 +2,7 @@ package com.futuretech.career.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.futuretech.career.dto.ApiResponse;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -39,12 +40,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
             
             String token = authHeader.substring(7);
-            String email = jwtUtil.extractEmail(token);
+            // Verify and decode the token once, then read every claim from the result
+            Claims claims = jwtUtil.extractAllClaims(token);
+            String email = claims.getSubject();
             
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(token, email)) {
-                    String role = jwtUtil.extractRole(token);
-                    String userId = jwtUtil.extractUserId(token);
+                if (jwtUtil.isValid(claims, email)) {
+                    String role = claims.get("role", String.class);
+                    String userId = claims.get("userId", String.class);
                     
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             email,
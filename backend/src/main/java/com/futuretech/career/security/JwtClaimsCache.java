@@ -0,0 +1,112 @@
+package com.futuretech.career.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers already-verified token claims until the token's own expiry, so repeated
+ * requests from the same session skip signature verification and payload decoding.
+ * Entries are keyed by the token's signature segment; the full token is compared on
+ * lookup so a reused signature can never resolve to different claims.
+ */
+@Component
+public class JwtClaimsCache {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+    
+    public Claims get(String token) {
+        String key = signatureOf(token);
+        Entry entry = key != null ? entries.get(key) : null;
+        if (entry == null || !entry.token.equals(token)) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims;
+    }
+    
+    public void put(String token, Claims claims) {
+        String key = signatureOf(token);
+        if (key == null || claims.getExpiration() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            makeRoom();
+        }
+        entries.put(key, new Entry(token, claims, claims.getExpiration().getTime()));
+    }
+    
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+    
+    // Drop expired tokens first; if the cache is still full, shed arbitrary entries down to 90%
+    // of capacity, so the full scan runs once per maxSize/10 puts rather than on every put.
+    // Concurrent callers skip the sweep while one is in progress and may overshoot briefly.
+    private void makeRoom() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> {
+                if (entry.expiresAt <= now) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            });
+            
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<String> it = entries.keySet().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    private static String signatureOf(String token) {
+        int idx = token.lastIndexOf('.');
+        return idx > 0 && idx < token.length() - 1 ? token.substring(idx + 1) : null;
+    }
+    
+    private record Entry(String token, Claims claims, long expiresAt) {
+    }
+}
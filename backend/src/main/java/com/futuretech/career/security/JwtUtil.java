@@ -1,28 +1,46 @@
 package com.futuretech.career.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
     
+    private final JwtClaimsCache claimsCache;
+    
     @Value("${jwt.secret}")
     private String secret;
     
     @Value("${jwt.expiration}")
     private Long expiration;
     
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Built once; both the key and the parser are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+    
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
     
     public String generateToken(String userId, String email, String role) {
@@ -41,12 +59,14 @@ public class JwtUtil {
     }
     
     public Claims extractAllClaims(String token) {
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parser()
-                    .verifyWith((javax.crypto.SecretKey) getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            claimsCache.put(token, claims);
+            return claims;
         } catch (JwtException e) {
             throw new RuntimeException("Invalid token: " + e.getMessage());
         }
@@ -65,10 +85,18 @@ public class JwtUtil {
     }
     
     public boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+        return isExpired(extractAllClaims(token));
     }
     
     public boolean validateToken(String token, String email) {
-        return (extractEmail(token).equals(email) && !isTokenExpired(token));
+        return isValid(extractAllClaims(token), email);
+    }
+    
+    public boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+    
+    public boolean isValid(Claims claims, String email) {
+        return email != null && email.equals(claims.getSubject()) && !isExpired(claims);
     }
 }
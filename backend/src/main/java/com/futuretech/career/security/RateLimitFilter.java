@@ -0,0 +1,115 @@
+package com.futuretech.career.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futuretech.career.dto.ApiResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-IP rate limit for the public form submissions. Runs before the request body is read,
+ * so rejected requests never reach Jackson, validation or the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final ObjectMapper objectMapper;
+    private final ClientIpResolver clientIpResolver;
+    
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.rate-limit.permits-per-minute:10}")
+    private int permitsPerMinute;
+    
+    @Value("${app.rate-limit.burst:5}")
+    private int burst;
+    
+    @Value("${app.rate-limit.max-tracked-clients:1048576}")
+    private int maxTrackedClients;
+    
+    private TokenBucketLimiter limiter;
+    private byte[] rejectionBody;
+    
+    @PostConstruct
+    void init() throws IOException {
+        limiter = new TokenBucketLimiter(maxTrackedClients, permitsPerMinute, burst);
+        rejectionBody = objectMapper.writeValueAsBytes(
+                ApiResponse.error("Too many submissions. Please try again later."));
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return !path.equals("/api/inquiries") && !path.equals("/api/feedback");
+    }
+    
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long waitMicros = limiter.tryAcquire(clientKey(request));
+        if (waitMicros == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(waitMicros / 1_000_000 + 1));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectionBody.length);
+        response.getOutputStream().write(rejectionBody);
+    }
+    
+    private long clientKey(HttpServletRequest request) {
+        String ip = clientIpResolver.resolve(request);
+        long ipv4 = parseIpv4(ip);
+        if (ipv4 >= 0) {
+            return ipv4 | (1L << 32);
+        }
+        // FNV-1a for IPv6 and anything else; 0 is reserved for empty slots
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < ip.length(); i++) {
+            hash ^= ip.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+    
+    private static long parseIpv4(String ip) {
+        long value = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                value = (value << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        return dots == 3 && octet >= 0 ? (value << 8) | octet : -1;
+    }
+}
@@ -0,0 +1,90 @@
+package com.futuretech.career.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free token-bucket limiter over a fixed-size open-addressed table of primitive keys.
+ * Each bucket is stored as a single long (its theoretical arrival time, the GCRA form of a
+ * token bucket), so an entry costs 16 bytes and every update is one CAS on its own slot.
+ * <p>
+ * When a probe window has no free slot, a bucket that has fully refilled is reused, since
+ * forgetting it changes nothing. If none has, the key is let through rather than tracked.
+ */
+public class TokenBucketLimiter {
+    
+    private static final int PROBES = 8;
+    
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long intervalMicros;
+    private final long burstMicros;
+    private final long origin = System.nanoTime();
+    
+    public TokenBucketLimiter(int capacity, int permitsPerMinute, int burst) {
+        int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+        this.keys = new AtomicLongArray(size);
+        this.arrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.intervalMicros = 60_000_000L / permitsPerMinute;
+        this.burstMicros = intervalMicros * (burst - 1);
+    }
+    
+    /**
+     * Takes a token for the key. Returns 0 when allowed, otherwise the microseconds until
+     * the next token is available. The key must be non-zero.
+     */
+    public long tryAcquire(long key) {
+        long now = (System.nanoTime() - origin) / 1000 + 1;
+        int slot = slotFor(key, now);
+        if (slot < 0) {
+            return 0;
+        }
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long base = Math.max(arrival, now);
+            if (base - burstMicros > now) {
+                return base - burstMicros - now;
+            }
+            if (arrivals.compareAndSet(slot, arrival, base + intervalMicros)) {
+                return 0;
+            }
+        }
+    }
+    
+    private int slotFor(long key, long now) {
+        int start = (int) mix(key) & mask;
+        int reusable = -1;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & mask;
+            long current = keys.get(slot);
+            if (current == key) {
+                return slot;
+            }
+            if (current == 0) {
+                if (keys.compareAndSet(slot, 0, key)) {
+                    return slot;
+                }
+                if (keys.get(slot) == key) {
+                    return slot;
+                }
+            } else if (reusable < 0 && arrivals.get(slot) <= now) {
+                reusable = slot;
+            }
+        }
+        if (reusable >= 0) {
+            long previous = keys.get(reusable);
+            if (keys.compareAndSet(reusable, previous, key)) {
+                return reusable;
+            }
+        }
+        return -1;
+    }
+    
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
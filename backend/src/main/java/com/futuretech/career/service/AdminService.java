@@ -1,7 +1,10 @@
 package com.futuretech.career.service;
 
+import com.futuretech.career.dto.CursorResponse;
 import com.futuretech.career.dto.DashboardStats;
+import com.futuretech.career.dto.PageCursor;
 import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.SearchHit;
 import com.futuretech.career.exception.ResourceNotFoundException;
 import com.futuretech.career.model.Feedback;
 import com.futuretech.career.model.Inquiry;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -25,18 +29,21 @@ public class AdminService {
     private final InquiryRepository inquiryRepository;
     private final FeedbackRepository feedbackRepository;
     private final TestimonialRepository testimonialRepository;
+    private final PublicResponseCache responseCache;
+    private final TestimonialService testimonialService;
+    private final DashboardCounters dashboardCounters;
+    private final GlobalSearchIndex searchIndex;
+    
+    public List<SearchHit> search(String query, int limit) {
+        return searchIndex.search(query, Math.max(1, Math.min(limit, 50)));
+    }
     
     public DashboardStats getDashboardStats() {
-        long totalInquiries = inquiryRepository.count();
-        long unreadInquiries = inquiryRepository.countByIsRead(false);
-        long pendingFeedback = feedbackRepository.countByStatus("pending");
-        long activeTestimonials = testimonialRepository.countByIsActive(true);
-        
         return new DashboardStats(
-                totalInquiries,
-                unreadInquiries,
-                pendingFeedback,
-                activeTestimonials,
+                dashboardCounters.totalInquiries(),
+                dashboardCounters.unreadInquiries(),
+                dashboardCounters.pendingFeedback(),
+                dashboardCounters.activeTestimonials(),
                 LocalDateTime.now()
         );
     }
@@ -60,6 +67,13 @@ public class AdminService {
         );
     }
     
+    public CursorResponse<Inquiry> getInquiriesAfter(String after, int limit, Boolean isRead) {
+        PageCursor cursor = PageCursor.parse(after);
+        List<Inquiry> rows = inquiryRepository.findPageAfter(cursor.getTimestamp(), cursor.getId(),
+                isRead, PageRequest.of(0, limit + 1));
+        return CursorResponse.of(rows, limit, i -> PageCursor.encode(i.getCreatedAt(), i.getId()));
+    }
+    
     public Inquiry markInquiryAsRead(String id, boolean isRead) {
         if (id == null) {
             throw new IllegalArgumentException("Inquiry ID cannot be null");
@@ -67,8 +81,11 @@ public class AdminService {
         Inquiry inquiry = inquiryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Inquiry not found"));
         
+        boolean wasRead = Boolean.TRUE.equals(inquiry.getIsRead());
         inquiry.setIsRead(isRead);
-        return inquiryRepository.save(inquiry);
+        Inquiry saved = inquiryRepository.save(inquiry);
+        dashboardCounters.inquiryReadChanged(wasRead, isRead);
+        return saved;
     }
     
     public void deleteInquiry(String id) {
@@ -80,6 +97,8 @@ public class AdminService {
         
         if (inquiry != null) {
             inquiryRepository.delete(inquiry);
+            dashboardCounters.inquiryDeleted(Boolean.TRUE.equals(inquiry.getIsRead()));
+            searchIndex.remove(GlobalSearchIndex.INQUIRY, id);
         }
     }
     
@@ -102,6 +121,13 @@ public class AdminService {
         );
     }
     
+    public CursorResponse<Feedback> getFeedbackAfter(String after, int limit, String status) {
+        PageCursor cursor = PageCursor.parse(after);
+        List<Feedback> rows = feedbackRepository.findPageAfter(cursor.getTimestamp(), cursor.getId(),
+                status, PageRequest.of(0, limit + 1));
+        return CursorResponse.of(rows, limit, f -> PageCursor.encode(f.getCreatedAt(), f.getId()));
+    }
+    
     @Transactional
     public Testimonial approveFeedback(String id, String role) {
         if (id == null) {
@@ -111,8 +137,11 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found"));
         
         // Update feedback status
+        String previousStatus = feedback.getStatus();
         feedback.setStatus("approved");
         feedbackRepository.save(feedback);
+        testimonialService.trackFeedbackStatus(feedback);
+        dashboardCounters.feedbackStatusChanged(previousStatus, "approved");
         
         // Create testimonial
         Testimonial testimonial = new Testimonial();
@@ -124,7 +153,11 @@ public class AdminService {
         testimonial.setRole(role);
         testimonial.setIsActive(true);
         
-        return testimonialRepository.save(testimonial);
+        Testimonial saved = testimonialRepository.save(testimonial);
+        responseCache.invalidate(TestimonialService.RESPONSE_FAMILY);
+        testimonialService.trackSaved(saved);
+        dashboardCounters.testimonialActiveChanged(false, true);
+        return saved;
     }
     
     public Feedback rejectFeedback(String id) {
@@ -134,8 +167,12 @@ public class AdminService {
         Feedback feedback = feedbackRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found"));
         
+        String previousStatus = feedback.getStatus();
         feedback.setStatus("rejected");
-        return feedbackRepository.save(feedback);
+        Feedback saved = feedbackRepository.save(feedback);
+        dashboardCounters.feedbackStatusChanged(previousStatus, "rejected");
+        testimonialService.trackFeedbackStatus(saved);
+        return saved;
     }
     
     public PaginationResponse<Testimonial> getAllTestimonials(int page, int limit, Boolean isActive) {
@@ -4,15 +4,25 @@ import com.futuretech.career.dto.LoginRequest;
 import com.futuretech.career.dto.LoginResponse;
 import com.futuretech.career.dto.RegisterRequest;
 import com.futuretech.career.exception.BadRequestException;
+import com.futuretech.career.exception.TooManyRequestsException;
 import com.futuretech.career.exception.UnauthorizedException;
 import com.futuretech.career.model.Admin;
 import com.futuretech.career.repository.AdminRepository;
 import com.futuretech.career.security.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -20,10 +30,38 @@ public class AuthService {
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final LoginThrottle loginThrottle;
     
     @Value("${admin.secret}")
     private String adminSecret;
     
+    @Value("${app.auth.login-threads:4}")
+    private int loginThreads;
+    
+    @Value("${app.auth.login-queue:32}")
+    private int loginQueue;
+    
+    // BCrypt is deliberately slow; keep it off the request threads and bound how much can pile up
+    private ThreadPoolExecutor loginExecutor;
+    
+    @PostConstruct
+    void startLoginExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        loginExecutor = new ThreadPoolExecutor(loginThreads, loginThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loginQueue),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @PreDestroy
+    void stopLoginExecutor() {
+        loginExecutor.shutdown();
+    }
+    
     public LoginResponse register(RegisterRequest request) {
         // Check if admin already exists
         if (adminRepository.count() > 0) {
@@ -62,15 +100,25 @@ public class AuthService {
         return new LoginResponse(token, userInfo);
     }
     
-    public LoginResponse login(LoginRequest request) {
+    public CompletableFuture<LoginResponse> login(LoginRequest request, String clientIp) {
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
+        try {
+            return CompletableFuture.supplyAsync(() -> authenticate(request, clientIp), loginExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Login service is busy. Please try again shortly.", 1);
+        }
+    }
+    
+    private LoginResponse authenticate(LoginRequest request, String clientIp) {
         // Find admin by email
-        Admin admin = adminRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Invalid email or password"));
+        Admin admin = adminRepository.findByEmail(request.getEmail()).orElse(null);
         
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), admin.getPassword())) {
+        if (admin == null || !passwordEncoder.matches(request.getPassword(), admin.getPassword())) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
             throw new UnauthorizedException("Invalid email or password");
         }
+        loginThrottle.recordSuccess(request.getEmail(), clientIp);
         
         // Generate token
         String token = jwtUtil.generateToken(admin.getId(), admin.getEmail(), admin.getRole());
@@ -0,0 +1,292 @@
+package com.futuretech.career.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.futuretech.career.dto.CandidateImportReport;
+import com.futuretech.career.dto.CandidateRequest;
+import com.futuretech.career.exception.BadRequestException;
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.model.JobOpening;
+import com.futuretech.career.repository.JobOpeningRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk candidate import. The upload is read one record at a time; every chunk of rows is
+ * converted and validated in parallel, checked against job opening ids loaded once up front,
+ * and inserted in a single transaction so Hibernate can send JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateImportService {
+    
+    private static final String COUNT_FAMILY = "candidates";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    
+    private static final Map<String, BiConsumer<CandidateRequest, String>> CSV_FIELDS = Map.ofEntries(
+            Map.entry("name", CandidateRequest::setName),
+            Map.entry("email", CandidateRequest::setEmail),
+            Map.entry("phone", CandidateRequest::setPhone),
+            Map.entry("resumeurl", CandidateRequest::setResumeUrl),
+            Map.entry("linkedinurl", CandidateRequest::setLinkedinUrl),
+            Map.entry("currentcompany", CandidateRequest::setCurrentCompany),
+            Map.entry("totalexperience", (r, v) -> r.setTotalExperience(parseExperience(v))),
+            Map.entry("skills", CandidateRequest::setSkills),
+            Map.entry("interviewstage", CandidateRequest::setInterviewStage),
+            Map.entry("finalstatus", CandidateRequest::setFinalStatus),
+            Map.entry("hrnotes", CandidateRequest::setHrNotes),
+            Map.entry("jobopeningid", CandidateRequest::setJobOpeningId));
+    
+    private final JobOpeningRepository jobOpeningRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ListCountCache countCache;
+    private final CandidateSkillIndex skillIndex;
+    private final GlobalSearchIndex searchIndex;
+    
+    @Value("${app.candidate-import.batch-size:1000}")
+    private int batchSize;
+    
+    public CandidateImportReport importCandidates(InputStream input, ExportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        RowSource source = format == ExportFormat.CSV ? csvSource(new CsvRecordReader(reader)) : ndjsonSource(reader);
+        
+        Map<String, String> jobOpeningLocations = new HashMap<>();
+        jobOpeningRepository.findAllLocationRows()
+                .forEach(row -> jobOpeningLocations.put(row.getId(), row.getLocation()));
+        
+        Progress progress = new Progress();
+        List<RawRow> chunk = new ArrayList<>(batchSize);
+        try {
+            RawRow row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    importChunk(chunk, jobOpeningLocations, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, jobOpeningLocations, progress);
+            }
+        } finally {
+            if (progress.imported > 0) {
+                countCache.invalidate(COUNT_FAMILY);
+            }
+        }
+        
+        log.info("Candidate import finished: {} rows, {} imported, {} failed",
+                progress.total, progress.imported, progress.failed);
+        return new CandidateImportReport(progress.total, progress.imported, progress.failed,
+                progress.failed > progress.errors.size(), progress.errors);
+    }
+    
+    private void importChunk(List<RawRow> chunk, Map<String, String> jobOpeningLocations, Progress progress) {
+        List<Prepared> prepared = chunk.parallelStream()
+                .map(row -> prepare(row, jobOpeningLocations))
+                .toList();
+        
+        List<Prepared> valid = new ArrayList<>(prepared.size());
+        for (Prepared row : prepared) {
+            progress.total++;
+            if (row.error() != null) {
+                progress.fail(row.row(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> persist(valid, jobOpeningLocations));
+            progress.imported += valid.size();
+        } catch (RuntimeException e) {
+            // Something in the batch was rejected by the database; retry row by row to pinpoint it
+            log.warn("Candidate import batch failed, retrying {} rows individually: {}", valid.size(), e.getMessage());
+            for (Prepared row : valid) {
+                try {
+                    transaction.executeWithoutResult(status -> persist(List.of(row), jobOpeningLocations));
+                    progress.imported++;
+                } catch (RuntimeException rowFailure) {
+                    progress.fail(row.row(), NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+    }
+    
+    private void persist(List<Prepared> rows, Map<String, String> jobOpeningLocations) {
+        for (Prepared row : rows) {
+            CandidateRequest request = row.request();
+            Candidate candidate = new Candidate();
+            candidate.setName(request.getName());
+            candidate.setEmail(request.getEmail());
+            candidate.setPhone(request.getPhone());
+            candidate.setResumeUrl(request.getResumeUrl());
+            candidate.setLinkedinUrl(request.getLinkedinUrl());
+            candidate.setCurrentCompany(request.getCurrentCompany());
+            candidate.setTotalExperience(request.getTotalExperience());
+            candidate.setSkills(request.getSkills());
+            candidate.setInterviewStage(request.getInterviewStage() != null ? request.getInterviewStage() : "screening");
+            candidate.setFinalStatus(request.getFinalStatus() != null ? request.getFinalStatus() : "in-progress");
+            candidate.setHrNotes(request.getHrNotes());
+            candidate.setJobOpening(entityManager.getReference(JobOpening.class, request.getJobOpeningId()));
+            entityManager.persist(candidate);
+            
+            skillIndex.index(candidate.getId(), candidate.getSkills(), candidate.getTotalExperience(),
+                    jobOpeningLocations.get(request.getJobOpeningId()));
+            searchIndex.index(candidate);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    private Prepared prepare(RawRow row, Map<String, String> jobOpeningLocations) {
+        CandidateRequest request;
+        try {
+            request = row.toRequest();
+        } catch (IllegalArgumentException e) {
+            return new Prepared(row.number(), null, e.getMessage());
+        } catch (JsonProcessingException e) {
+            return new Prepared(row.number(), null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        
+        String error = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (error.isEmpty() && !jobOpeningLocations.containsKey(request.getJobOpeningId())) {
+            error = "Job opening not found with id: " + request.getJobOpeningId();
+        }
+        return new Prepared(row.number(), request, error.isEmpty() ? null : error);
+    }
+    
+    private RowSource csvSource(CsvRecordReader csv) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        List<BiConsumer<CandidateRequest, String>> setters = new ArrayList<>(header.size());
+        for (String column : header) {
+            setters.add(CSV_FIELDS.get(column.trim().toLowerCase(Locale.ROOT)));
+        }
+        for (String required : List.of("name", "email", "jobopeningid")) {
+            if (header.stream().noneMatch(column -> column.trim().equalsIgnoreCase(required))) {
+                throw new BadRequestException("CSV header is missing the " + required + " column");
+            }
+        }
+        
+        long[] number = {0};
+        return () -> {
+            List<String> fields = csv.next();
+            if (fields == null) {
+                return null;
+            }
+            return new RawRow(++number[0], () -> {
+                CandidateRequest request = new CandidateRequest();
+                for (int i = 0; i < setters.size() && i < fields.size(); i++) {
+                    String value = cell(fields.get(i));
+                    if (setters.get(i) != null && value != null) {
+                        setters.get(i).accept(request, value);
+                    }
+                }
+                return request;
+            });
+        };
+    }
+    
+    private RowSource ndjsonSource(BufferedReader reader) {
+        ObjectReader json = objectMapper.readerFor(CandidateRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        long[] number = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            String text = line;
+            return new RawRow(++number[0], () -> json.readValue(text));
+        };
+    }
+    
+    private static String cell(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        // Undo the formula guard added by the CSV export
+        if (trimmed.length() > 1 && trimmed.charAt(0) == '\'' && "=+-@".indexOf(trimmed.charAt(1)) >= 0) {
+            return trimmed.substring(1);
+        }
+        return trimmed;
+    }
+    
+    private static Double parseExperience(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("totalExperience must be a number: " + value);
+        }
+    }
+    
+    private interface RowSource {
+        RawRow next() throws IOException;
+    }
+    
+    private interface RequestParser {
+        CandidateRequest parse() throws JsonProcessingException;
+    }
+    
+    private record RawRow(long number, RequestParser parser) {
+        CandidateRequest toRequest() throws JsonProcessingException {
+            return parser.parse();
+        }
+    }
+    
+    private record Prepared(long row, CandidateRequest request, String error) {
+    }
+    
+    private static final class Progress {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<CandidateImportReport.RowError> errors = new ArrayList<>();
+        
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CandidateImportReport.RowError(row, message));
+            }
+        }
+    }
+}
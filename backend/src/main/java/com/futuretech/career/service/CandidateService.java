@@ -1,45 +1,103 @@
 package com.futuretech.career.service;
 
+import com.futuretech.career.dto.BatchUpdateResult;
 import com.futuretech.career.dto.CandidateRequest;
+import com.futuretech.career.dto.CandidateSummary;
+import com.futuretech.career.dto.CursorResponse;
+import com.futuretech.career.dto.PageCursor;
+import com.futuretech.career.dto.PaginationResponse;
+import com.futuretech.career.dto.SliceResponse;
+import com.futuretech.career.exception.BadRequestException;
 import com.futuretech.career.model.Candidate;
 import com.futuretech.career.model.JobOpening;
 import com.futuretech.career.repository.CandidateRepository;
 import com.futuretech.career.repository.JobOpeningRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CandidateService {
     
+    private static final String COUNT_FAMILY = "candidates";
+    
     private final CandidateRepository candidateRepository;
     private final JobOpeningRepository jobOpeningRepository;
+    private final ListCountCache countCache;
+    private final CandidateSkillIndex skillIndex;
+    private final GlobalSearchIndex searchIndex;
     
-    public Page<Candidate> getAllCandidates(int page, int size) {
+    public SliceResponse<CandidateSummary> getAllCandidates(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        return candidateRepository.findAll(pageable);
+        return SliceResponse.of(candidateRepository.findSummaries(pageable),
+                countCache.get(COUNT_FAMILY, candidateRepository::count));
     }
     
-    public Page<Candidate> getCandidatesByJobOpening(String jobOpeningId, int page, int size) {
+    public SliceResponse<CandidateSummary> getCandidatesByJobOpening(String jobOpeningId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        return candidateRepository.findByJobOpeningId(jobOpeningId, pageable);
+        return SliceResponse.of(candidateRepository.findSummariesByJobOpeningId(jobOpeningId, pageable),
+                countCache.get(COUNT_FAMILY + ":jobOpening=" + jobOpeningId,
+                        () -> candidateRepository.countByJobOpeningId(jobOpeningId)));
     }
     
-    public Page<Candidate> getCandidatesByInterviewStage(String interviewStage, int page, int size) {
+    public SliceResponse<CandidateSummary> getCandidatesByInterviewStage(String interviewStage, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        return candidateRepository.findByInterviewStage(interviewStage, pageable);
+        return SliceResponse.of(candidateRepository.findSummariesByInterviewStage(interviewStage, pageable),
+                countCache.get(COUNT_FAMILY + ":stage=" + interviewStage,
+                        () -> candidateRepository.countByInterviewStage(interviewStage)));
     }
     
-    public Page<Candidate> getCandidatesByFinalStatus(String finalStatus, int page, int size) {
+    public SliceResponse<CandidateSummary> getCandidatesByFinalStatus(String finalStatus, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
-        return candidateRepository.findByFinalStatus(finalStatus, pageable);
+        return SliceResponse.of(candidateRepository.findSummariesByFinalStatus(finalStatus, pageable),
+                countCache.get(COUNT_FAMILY + ":finalStatus=" + finalStatus,
+                        () -> candidateRepository.countByFinalStatus(finalStatus)));
+    }
+    
+    public CursorResponse<CandidateSummary> getCandidatesAfter(String after, int size, String jobOpeningId,
+                                                        String interviewStage, String finalStatus) {
+        PageCursor cursor = PageCursor.parse(after);
+        List<CandidateSummary> rows = candidateRepository.findPageAfter(cursor.getTimestamp(), cursor.getId(),
+                jobOpeningId, interviewStage, finalStatus, PageRequest.of(0, size + 1));
+        return CursorResponse.of(rows, size, c -> PageCursor.encode(c.getAppliedAt(), c.getId()));
+    }
+    
+    public PaginationResponse<CandidateSummary> searchCandidates(String skills, String match, Double minExperience,
+                                                          int page, int size) {
+        boolean matchAll;
+        if ("and".equalsIgnoreCase(match)) {
+            matchAll = true;
+        } else if ("or".equalsIgnoreCase(match)) {
+            matchAll = false;
+        } else {
+            throw new BadRequestException("match must be 'and' or 'or'");
+        }
+        
+        List<String> ids = skillIndex.search(SkillTerms.query(skills), matchAll, minExperience);
+        int from = Math.min(page * size, ids.size());
+        List<String> pageIds = ids.subList(from, Math.min(from + size, ids.size()));
+        Map<String, CandidateSummary> byId = candidateRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(CandidateSummary::getId, Function.identity()));
+        List<CandidateSummary> content = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        
+        int totalPages = size > 0 ? (ids.size() + size - 1) / size : 0;
+        return new PaginationResponse<>(content, page, size, ids.size(), totalPages);
     }
     
     public Candidate getCandidateById(String id) {
@@ -53,6 +111,9 @@ public class CandidateService {
         mapRequestToEntity(request, candidate);
         
         Candidate saved = candidateRepository.save(candidate);
+        countCache.invalidate(COUNT_FAMILY);
+        skillIndex.index(saved);
+        searchIndex.index(saved);
         log.info("Candidate created: {}", saved.getId());
         return saved;
     }
@@ -63,6 +124,9 @@ public class CandidateService {
         mapRequestToEntity(request, candidate);
         
         Candidate updated = candidateRepository.save(candidate);
+        countCache.invalidate(COUNT_FAMILY);
+        skillIndex.index(updated);
+        searchIndex.index(updated);
         log.info("Candidate updated: {}", updated.getId());
         return updated;
     }
@@ -73,6 +137,7 @@ public class CandidateService {
         candidate.setInterviewStage(interviewStage);
         
         Candidate updated = candidateRepository.save(candidate);
+        countCache.invalidate(COUNT_FAMILY);
         log.info("Candidate interview stage updated: {} - {}", id, interviewStage);
         return updated;
     }
@@ -87,13 +152,58 @@ public class CandidateService {
         return updated;
     }
     
+    @Transactional
+    public BatchUpdateResult updateInterviewStageBatch(List<String> ids, String interviewStage) {
+        Set<String> requested = distinctIds(ids);
+        int updated = candidateRepository.updateInterviewStage(requested, interviewStage, LocalDateTime.now());
+        countCache.invalidate(COUNT_FAMILY);
+        log.info("Candidate interview stage updated: {} of {} candidates - {}", updated, requested.size(), interviewStage);
+        return batchResult(requested, updated);
+    }
+    
+    @Transactional
+    public BatchUpdateResult updateHRNotesBatch(List<String> ids, String hrNotes) {
+        Set<String> requested = distinctIds(ids);
+        int updated = candidateRepository.updateHrNotes(requested, hrNotes, LocalDateTime.now());
+        log.info("Candidate HR notes updated: {} of {} candidates", updated, requested.size());
+        return batchResult(requested, updated);
+    }
+    
     @Transactional
     public void deleteCandidate(String id) {
         Candidate candidate = getCandidateById(id);
         candidateRepository.delete(candidate);
+        countCache.invalidate(COUNT_FAMILY);
+        skillIndex.remove(id);
+        searchIndex.remove(GlobalSearchIndex.CANDIDATE, id);
         log.info("Candidate deleted: {}", id);
     }
     
+    private static Set<String> distinctIds(List<String> ids) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isBlank()) {
+                distinct.add(id);
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new BadRequestException("At least one candidate ID is required");
+        }
+        return distinct;
+    }
+    
+    private BatchUpdateResult batchResult(Set<String> requested, int updated) {
+        // The UPDATE holds row locks until commit, so the ids still present are exactly the ones it touched
+        Set<String> found = updated == requested.size()
+                ? requested
+                : new HashSet<>(candidateRepository.findIdsByIdIn(requested));
+        List<BatchUpdateResult.Outcome> results = requested.stream()
+                .map(id -> new BatchUpdateResult.Outcome(id,
+                        found.contains(id) ? BatchUpdateResult.UPDATED : BatchUpdateResult.NOT_FOUND))
+                .toList();
+        return new BatchUpdateResult(requested.size(), updated, results);
+    }
+    
     private void mapRequestToEntity(CandidateRequest request, Candidate candidate) {
         candidate.setName(request.getName());
         candidate.setEmail(request.getEmail());
@@ -0,0 +1,286 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.dto.CandidateMatch;
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.repository.CandidateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from skill terms to candidates. Each candidate gets a dense ordinal; a term's
+ * posting list is an {@link OrdinalSet}, a sorted int array for the many rare terms and a
+ * BitSet only for terms common enough that the bitmap is the smaller layout.
+ * Experience and location (taken from the job opening applied to) are kept as primitive
+ * columns next to the postings so matching can score every candidate without entity loads.
+ * Maintained after committed candidate writes and rebuilt periodically from the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSkillIndex {
+    
+    private static final int NO_LOCATION = -1;
+    
+    private final CandidateRepository candidateRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReloader reloader = new IndexReloader(lock);
+    
+    // Guarded by lock
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<String, OrdinalSet> postings = new HashMap<>();
+    private final Map<String, Integer> locationIds = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[] ids = new String[0];
+    private double[] experience = new double[0];
+    private int[] locations = new int[0];
+    private String[][] terms = new String[0][];
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.candidate-index.rebuild-ms:3600000}",
+               fixedDelayString = "${app.candidate-index.rebuild-ms:3600000}")
+    public void rebuild() {
+        List<CandidateRepository.SkillRow> rows = reloader.reload(candidateRepository::findAllSkillRows, snapshot -> {
+            ordinals.clear();
+            postings.clear();
+            live.clear();
+            freeOrdinals.clear();
+            locationIds.clear();
+            int capacity = Math.max(16, snapshot.size() + snapshot.size() / 4);
+            ids = new String[capacity];
+            experience = new double[capacity];
+            locations = new int[capacity];
+            terms = new String[capacity][];
+            for (CandidateRepository.SkillRow row : snapshot) {
+                put(row.getId(), row.getSkills(), row.getTotalExperience(), row.getLocation());
+            }
+        });
+        log.info("Candidate skill index built: {} candidates, {} terms", rows.size(), postings.size());
+    }
+    
+    public void index(Candidate candidate) {
+        index(candidate.getId(), candidate.getSkills(), candidate.getTotalExperience(),
+                candidate.getJobOpening() != null ? candidate.getJobOpening().getLocation() : null);
+    }
+    
+    public void index(String id, String skills, Double totalExperience, String location) {
+        reloader.apply(() -> put(id, skills, totalExperience, location));
+    }
+    
+    public void remove(String id) {
+        reloader.apply(() -> {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                clear(ordinal);
+                freeOrdinals.push(ordinal);
+            }
+        });
+    }
+    
+    /**
+     * Ids of candidates having all (or, with {@code matchAll} false, any) of the skill
+     * terms and at least {@code minExperience} years, best matches first: most matched
+     * terms, then most experience.
+     */
+    public List<String> search(List<String> skillTerms, boolean matchAll, Double minExperience) {
+        lock.readLock().lock();
+        try {
+            BitSet result;
+            int[] matched = null;
+            if (skillTerms.isEmpty()) {
+                result = (BitSet) live.clone();
+            } else if (matchAll) {
+                List<OrdinalSet> required = new ArrayList<>(skillTerms.size());
+                for (String term : skillTerms) {
+                    OrdinalSet posting = postings.get(term);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    required.add(posting);
+                }
+                // Walk the rarest term and probe the others
+                required.sort(Comparator.comparingInt(OrdinalSet::size));
+                List<OrdinalSet> others = required.subList(1, required.size());
+                BitSet all = new BitSet();
+                required.get(0).forEach(i -> {
+                    for (OrdinalSet posting : others) {
+                        if (!posting.contains(i)) {
+                            return;
+                        }
+                    }
+                    all.set(i);
+                });
+                result = all;
+            } else {
+                result = new BitSet();
+                int[] counts = new int[ids.length];
+                for (String term : skillTerms) {
+                    OrdinalSet posting = postings.get(term);
+                    if (posting == null) {
+                        continue;
+                    }
+                    posting.orInto(result);
+                    posting.forEach(i -> counts[i]++);
+                }
+                matched = counts;
+            }
+            
+            List<Integer> hits = new ArrayList<>(result.cardinality());
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                if (minExperience == null || experience[i] >= minExperience) {
+                    hits.add(i);
+                }
+            }
+            int[] matchCounts = matched;
+            Comparator<Integer> order = Comparator.comparingDouble((Integer i) -> -experience[i]);
+            if (matchCounts != null) {
+                order = Comparator.comparingInt((Integer i) -> -matchCounts[i]).thenComparing(order);
+            }
+            hits.sort(order);
+            
+            List<String> matchIds = new ArrayList<>(hits.size());
+            for (Integer i : hits) {
+                matchIds.add(ids[i]);
+            }
+            return matchIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Scores every indexed candidate and returns the best {@code limit}, highest first. The
+     * scorer sees how many of the required terms the candidate has, their experience and
+     * whether their location equals {@code location} (always true when it is null).
+     */
+    public List<CandidateMatch> topMatches(List<String> requiredTerms, String location, MatchScorer scorer, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] matched = new int[ids.length];
+            for (String term : requiredTerms) {
+                OrdinalSet posting = postings.get(term);
+                if (posting != null) {
+                    posting.forEach(i -> matched[i]++);
+                }
+            }
+            boolean anyLocation = location == null;
+            int wantedLocation = anyLocation ? NO_LOCATION : locationIds.getOrDefault(normalizeLocation(location), NO_LOCATION);
+            
+            // Bounded min-heap over ordinals: the root is the weakest of the current top K
+            int[] heap = new int[Math.max(limit, 0)];
+            double[] heapScores = new double[heap.length];
+            int heapSize = 0;
+            for (int i = live.nextSetBit(0); i >= 0 && heap.length > 0; i = live.nextSetBit(i + 1)) {
+                boolean sameLocation = anyLocation || (wantedLocation != NO_LOCATION && locations[i] == wantedLocation);
+                double score = scorer.score(matched[i], experience[i], sameLocation);
+                if (heapSize < heap.length) {
+                    int slot = heapSize++;
+                    while (slot > 0 && heapScores[(slot - 1) / 2] > score) {
+                        heap[slot] = heap[(slot - 1) / 2];
+                        heapScores[slot] = heapScores[(slot - 1) / 2];
+                        slot = (slot - 1) / 2;
+                    }
+                    heap[slot] = i;
+                    heapScores[slot] = score;
+                } else if (score > heapScores[0]) {
+                    int slot = 0;
+                    while (true) {
+                        int child = 2 * slot + 1;
+                        if (child >= heapSize) {
+                            break;
+                        }
+                        if (child + 1 < heapSize && heapScores[child + 1] < heapScores[child]) {
+                            child++;
+                        }
+                        if (heapScores[child] >= score) {
+                            break;
+                        }
+                        heap[slot] = heap[child];
+                        heapScores[slot] = heapScores[child];
+                        slot = child;
+                    }
+                    heap[slot] = i;
+                    heapScores[slot] = score;
+                }
+            }
+            
+            List<CandidateMatch> result = new ArrayList<>(heapSize);
+            for (int h = 0; h < heapSize; h++) {
+                int i = heap[h];
+                result.add(new CandidateMatch(ids[i], heapScores[h], matched[i], requiredTerms.size(), null));
+            }
+            result.sort(Comparator.comparingDouble(CandidateMatch::getScore).reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @FunctionalInterface
+    public interface MatchScorer {
+        double score(int matchedTerms, double experience, boolean sameLocation);
+    }
+    
+    private void put(String id, String skills, Double totalExperience, String location) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            ordinal = freeOrdinals.isEmpty() ? live.length() : freeOrdinals.pop();
+            ordinals.put(id, ordinal);
+        } else {
+            clear(ordinal);
+        }
+        if (ordinal >= ids.length) {
+            int capacity = Math.max(16, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            experience = Arrays.copyOf(experience, capacity);
+            locations = Arrays.copyOf(locations, capacity);
+            terms = Arrays.copyOf(terms, capacity);
+        }
+        
+        Set<String> candidateTerms = SkillTerms.of(skills);
+        for (String term : candidateTerms) {
+            postings.computeIfAbsent(term, t -> new OrdinalSet()).add(ordinal);
+        }
+        ids[ordinal] = id;
+        experience[ordinal] = totalExperience != null ? totalExperience : 0;
+        terms[ordinal] = candidateTerms.toArray(new String[0]);
+        locations[ordinal] = location == null || location.isBlank()
+                ? NO_LOCATION : locationIds.computeIfAbsent(normalizeLocation(location), l -> locationIds.size());
+        live.set(ordinal);
+    }
+    
+    private void clear(int ordinal) {
+        for (String term : terms[ordinal]) {
+            OrdinalSet posting = postings.get(term);
+            posting.remove(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        ids[ordinal] = null;
+        terms[ordinal] = null;
+        live.clear(ordinal);
+    }
+    
+    private static String normalizeLocation(String location) {
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+}
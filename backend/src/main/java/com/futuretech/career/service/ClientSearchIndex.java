@@ -0,0 +1,245 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.model.Client;
+import com.futuretech.career.repository.ClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Substring search over client name, company name and email. Terms of three or more
+ * characters are narrowed with a trigram index and then verified; shorter ones use a sorted
+ * word map for prefix lookups. Results are ordered by how well the best field matches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientSearchIndex {
+    
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2}; // name, companyName, email
+    
+    private final ClientRepository clientRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReloader reloader = new IndexReloader(lock);
+    
+    // Guarded by lock
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<Long, BitSet> trigrams = new HashMap<>();
+    private final TreeMap<String, BitSet> words = new TreeMap<>();
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[] ids = new String[0];
+    private String[][] fields = new String[0][];
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ClientRepository.SearchRow> rows = reloader.reload(clientRepository::findAllSearchRows, snapshot -> {
+            ordinals.clear();
+            trigrams.clear();
+            words.clear();
+            live.clear();
+            freeOrdinals.clear();
+            ids = new String[Math.max(16, snapshot.size() + snapshot.size() / 4)];
+            fields = new String[ids.length][];
+            for (ClientRepository.SearchRow row : snapshot) {
+                put(row.getId(), row.getName(), row.getCompanyName(), row.getEmail());
+            }
+        });
+        log.info("Client search index loaded: {} clients, {} trigrams", rows.size(), trigrams.size());
+    }
+    
+    public void index(Client client) {
+        String id = client.getId();
+        String name = client.getName();
+        String companyName = client.getCompanyName();
+        String email = client.getEmail();
+        reloader.apply(() -> put(id, name, companyName, email));
+    }
+    
+    public void remove(String id) {
+        reloader.apply(() -> {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                clear(ordinal);
+                freeOrdinals.push(ordinal);
+            }
+        });
+    }
+    
+    /**
+     * Ids of clients whose name, company name or email contains the query, best first:
+     * exact field, then field prefix, then word prefix, then any substring.
+     */
+    public List<String> search(String query) {
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            BitSet candidates;
+            if (term.length() < 3) {
+                candidates = new BitSet();
+                for (BitSet posting : words.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    candidates.or(posting);
+                }
+            } else {
+                candidates = (BitSet) live.clone();
+                for (long trigram : trigramsOf(term)) {
+                    BitSet posting = trigrams.get(trigram);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    candidates.and(posting);
+                }
+            }
+            
+            List<int[]> hits = new ArrayList<>();
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                int score = score(fields[i], term);
+                if (score > 0) {
+                    hits.add(new int[]{i, score});
+                }
+            }
+            String[][] clientFields = fields;
+            hits.sort(Comparator.<int[]>comparingInt(hit -> -hit[1])
+                    .thenComparing(hit -> clientFields[hit[0]][0]));
+            
+            List<String> result = new ArrayList<>(hits.size());
+            for (int[] hit : hits) {
+                result.add(ids[hit[0]]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static int score(String[] clientFields, String term) {
+        int best = 0;
+        for (int f = 0; f < clientFields.length; f++) {
+            String value = clientFields[f];
+            int quality;
+            if (value.equals(term)) {
+                quality = 4;
+            } else if (value.startsWith(term)) {
+                quality = 3;
+            } else if (startsWord(value, term)) {
+                quality = 2;
+            } else if (value.contains(term)) {
+                quality = 1;
+            } else {
+                continue;
+            }
+            best = Math.max(best, quality * FIELD_WEIGHTS[f]);
+        }
+        return best;
+    }
+    
+    private static boolean startsWord(String value, String term) {
+        for (int i = value.indexOf(term, 1); i > 0; i = value.indexOf(term, i + 1)) {
+            if (!Character.isLetterOrDigit(value.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void put(String id, String name, String companyName, String email) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            ordinal = freeOrdinals.isEmpty() ? live.length() : freeOrdinals.pop();
+            ordinals.put(id, ordinal);
+        } else {
+            clear(ordinal);
+        }
+        if (ordinal >= ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(16, ids.length * 2));
+            fields = Arrays.copyOf(fields, ids.length);
+        }
+        
+        String[] clientFields = {normalize(name), normalize(companyName), normalize(email)};
+        for (String value : clientFields) {
+            for (long trigram : trigramsOf(value)) {
+                trigrams.computeIfAbsent(trigram, t -> new BitSet()).set(ordinal);
+            }
+            for (String word : wordsOf(value)) {
+                words.computeIfAbsent(word, w -> new BitSet()).set(ordinal);
+            }
+        }
+        ids[ordinal] = id;
+        fields[ordinal] = clientFields;
+        live.set(ordinal);
+    }
+    
+    private void clear(int ordinal) {
+        for (String value : fields[ordinal]) {
+            for (long trigram : trigramsOf(value)) {
+                BitSet posting = trigrams.get(trigram);
+                if (posting != null) {
+                    posting.clear(ordinal);
+                    if (posting.isEmpty()) {
+                        trigrams.remove(trigram);
+                    }
+                }
+            }
+            for (String word : wordsOf(value)) {
+                BitSet posting = words.get(word);
+                if (posting != null) {
+                    posting.clear(ordinal);
+                    if (posting.isEmpty()) {
+                        words.remove(word);
+                    }
+                }
+            }
+        }
+        ids[ordinal] = null;
+        fields[ordinal] = null;
+        live.clear(ordinal);
+    }
+    
+    private static Set<Long> trigramsOf(String value) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            result.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+        return result;
+    }
+    
+    // The whole value plus each alphanumeric run, so "ac" finds both "acme corp" and "j@acme.com"
+    private static Set<String> wordsOf(String value) {
+        Set<String> result = new HashSet<>();
+        if (value.isEmpty()) {
+            return result;
+        }
+        result.add(value);
+        for (String word : value.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,13 @@
 package com.futuretech.career.service;
 
 import com.futuretech.career.dto.ClientRequest;
+import com.futuretech.career.dto.ClientSummary;
 import com.futuretech.career.model.Client;
 import com.futuretech.career.repository.ClientRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,6 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,20 +26,29 @@ import java.util.List;
 public class ClientService {
     
     private final ClientRepository clientRepository;
+    private final ListCountCache countCache;
+    private final OpenPositionIndex openPositionIndex;
+    private final ClientSearchIndex searchIndex;
+    private final GlobalSearchIndex globalSearchIndex;
     
-    public Page<Client> getAllClients(int page, int size) {
+    public Page<ClientSummary> getAllClients(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return clientRepository.findAll(pageable);
+        return clientRepository.findSummaries(pageable);
     }
     
-    public Page<Client> getClientsByStatus(String status, int page, int size) {
+    public Page<ClientSummary> getClientsByStatus(String status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return clientRepository.findByStatus(status, pageable);
+        return clientRepository.findSummariesByStatus(status, pageable);
     }
     
-    public Page<Client> searchClients(String search, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return clientRepository.searchClients(search, pageable);
+    public Page<ClientSummary> searchClients(String search, int page, int size) {
+        List<String> ids = searchIndex.search(search);
+        int from = Math.min(page * size, ids.size());
+        List<String> pageIds = ids.subList(from, Math.min(from + size, ids.size()));
+        Map<String, ClientSummary> byId = clientRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ClientSummary::getId, Function.identity()));
+        List<ClientSummary> content = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, PageRequest.of(page, size), ids.size());
     }
     
     public Client getClientById(String id) {
@@ -51,6 +66,8 @@ public class ClientService {
         mapRequestToEntity(request, client);
         
         Client saved = clientRepository.save(client);
+        searchIndex.index(saved);
+        globalSearchIndex.index(saved);
         log.info("Client created: {}", saved.getId());
         return saved;
     }
@@ -61,6 +78,8 @@ public class ClientService {
         mapRequestToEntity(request, client);
         
         Client updated = clientRepository.save(client);
+        searchIndex.index(updated);
+        globalSearchIndex.index(updated);
         log.info("Client updated: {}", updated.getId());
         return updated;
     }
@@ -68,7 +87,16 @@ public class ClientService {
     @Transactional
     public void deleteClient(String id) {
         Client client = getClientById(id);
+        client.getResourceRequirements().forEach(requirement ->
+                openPositionIndex.remove(OpenPositionIndex.RESOURCE_REQUIREMENT, requirement.getId()));
+        client.getContracts().forEach(contract ->
+                globalSearchIndex.remove(GlobalSearchIndex.CONTRACT, contract.getId()));
         clientRepository.delete(client);
+        searchIndex.remove(id);
+        globalSearchIndex.remove(GlobalSearchIndex.CLIENT, id);
+        // Contracts and resource requirements cascade with the client
+        countCache.invalidate("contracts");
+        countCache.invalidate("resourceRequirements");
         log.info("Client deleted: {}", id);
     }
     
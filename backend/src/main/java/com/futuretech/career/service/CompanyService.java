@@ -19,7 +19,11 @@ import java.util.List;
 @Slf4j
 public class CompanyService {
     
+    public static final String RESPONSE_FAMILY = "companies";
+    
     private final CompanyRepository companyRepository;
+    private final PublicResponseCache responseCache;
+    private final GlobalSearchIndex searchIndex;
     
     public List<Company> getActiveCompanies() {
         return companyRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
@@ -48,6 +52,8 @@ public class CompanyService {
         company.setDisplayOrder(request.getDisplayOrder());
         
         Company saved = companyRepository.save(company);
+        searchIndex.index(saved);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Created company: {}", saved.getId());
         return saved;
     }
@@ -66,6 +72,8 @@ public class CompanyService {
         company.setDisplayOrder(request.getDisplayOrder());
         
         Company updated = companyRepository.save(company);
+        searchIndex.index(updated);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Updated company: {}", updated.getId());
         return updated;
     }
@@ -74,6 +82,8 @@ public class CompanyService {
     public void deleteCompany(String id) {
         Company company = getCompanyById(id);
         companyRepository.delete(company);
+        searchIndex.remove(GlobalSearchIndex.COMPANY, id);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Deleted company: {}", id);
     }
     
@@ -81,6 +91,7 @@ public class CompanyService {
     public Company toggleCompanyStatus(String id) {
         Company company = getCompanyById(id);
         company.setIsActive(!company.getIsActive());
+        responseCache.invalidate(RESPONSE_FAMILY);
         return companyRepository.save(company);
     }
 }
@@ -4,21 +4,43 @@ import com.futuretech.career.exception.ResourceNotFoundException;
 import com.futuretech.career.model.Content;
 import com.futuretech.career.repository.ContentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ContentService {
     
+    public static final String RESPONSE_FAMILY = "content";
+    
     private final ContentRepository contentRepository;
+    private final PublicResponseCache responseCache;
+    
+    // Public reads are served from this immutable snapshot; admin writes swap in a new one
+    private volatile Snapshot snapshot;
     
-    public java.util.List<Content> getAllContent() {
-        return contentRepository.findAll();
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadSnapshot() {
+        snapshot = Snapshot.of(contentRepository.findAll());
+    }
+    
+    public List<Content> getAllContent() {
+        return snapshot().all();
     }
     
     public Content getContentBySection(String section) {
-        return contentRepository.findBySection(section)
-                .orElseThrow(() -> new ResourceNotFoundException("Content section not found: " + section));
+        Content content = snapshot().bySection().get(section);
+        if (content == null) {
+            throw new ResourceNotFoundException("Content section not found: " + section);
+        }
+        return content;
     }
     
     public Content updateContent(String section, String content) {
@@ -26,6 +48,36 @@ public class ContentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Content section not found: " + section));
         
         contentEntity.setContent(content);
-        return contentRepository.save(contentEntity);
+        Content saved = contentRepository.save(contentEntity);
+        replaceInSnapshot(saved);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        return saved;
+    }
+    
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    loadSnapshot();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+    
+    private synchronized void replaceInSnapshot(Content saved) {
+        Map<String, Content> sections = new LinkedHashMap<>(snapshot().bySection());
+        sections.put(saved.getSection(), saved);
+        snapshot = Snapshot.of(new ArrayList<>(sections.values()));
+    }
+    
+    private record Snapshot(List<Content> all, Map<String, Content> bySection) {
+        static Snapshot of(List<Content> contents) {
+            Map<String, Content> bySection = new LinkedHashMap<>();
+            contents.forEach(content -> bySection.put(content.getSection(), content));
+            return new Snapshot(List.copyOf(bySection.values()), Collections.unmodifiableMap(bySection));
+        }
     }
 }
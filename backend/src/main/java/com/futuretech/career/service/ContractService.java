@@ -1,13 +1,16 @@
 package com.futuretech.career.service;
 
 import com.futuretech.career.dto.ContractRequest;
+import com.futuretech.career.dto.ContractSummary;
+import com.futuretech.career.dto.CursorResponse;
+import com.futuretech.career.dto.PageCursor;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.Client;
 import com.futuretech.career.model.Contract;
 import com.futuretech.career.repository.ClientRepository;
 import com.futuretech.career.repository.ContractRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,25 +25,41 @@ import java.util.List;
 @Slf4j
 public class ContractService {
     
+    private static final String COUNT_FAMILY = "contracts";
+    
     private final ContractRepository contractRepository;
     private final ClientRepository clientRepository;
+    private final ListCountCache countCache;
+    private final GlobalSearchIndex searchIndex;
     
-    public Page<Contract> getAllContracts(int page, int size) {
+    public SliceResponse<ContractSummary> getAllContracts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return contractRepository.findAll(pageable);
+        return SliceResponse.of(contractRepository.findSummaries(pageable),
+                countCache.get(COUNT_FAMILY, contractRepository::count));
     }
     
-    public Page<Contract> getContractsByClient(String clientId, int page, int size) {
+    public SliceResponse<ContractSummary> getContractsByClient(String clientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return contractRepository.findByClientId(clientId, pageable);
+        return SliceResponse.of(contractRepository.findSummariesByClientId(clientId, pageable),
+                countCache.get(COUNT_FAMILY + ":client=" + clientId,
+                        () -> contractRepository.countByClientId(clientId)));
     }
     
-    public Page<Contract> getContractsByStatus(String status, int page, int size) {
+    public SliceResponse<ContractSummary> getContractsByStatus(String status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return contractRepository.findByStatus(status, pageable);
+        return SliceResponse.of(contractRepository.findSummariesByStatus(status, pageable),
+                countCache.get(COUNT_FAMILY + ":status=" + status,
+                        () -> contractRepository.countByStatus(status)));
+    }
+    
+    public CursorResponse<ContractSummary> getContractsAfter(String after, int size, String clientId, String status) {
+        PageCursor cursor = PageCursor.parse(after);
+        List<ContractSummary> rows = contractRepository.findPageAfter(cursor.getTimestamp(), cursor.getId(),
+                clientId, status, PageRequest.of(0, size + 1));
+        return CursorResponse.of(rows, size, c -> PageCursor.encode(c.getCreatedAt(), c.getId()));
     }
     
-    public List<Contract> getExpiringContracts(int days) {
+    public List<ContractSummary> getExpiringContracts(int days) {
         LocalDate today = LocalDate.now();
         LocalDate futureDate = today.plusDays(days);
         return contractRepository.findExpiringContracts(today, futureDate);
@@ -57,6 +76,8 @@ public class ContractService {
         mapRequestToEntity(request, contract);
         
         Contract saved = contractRepository.save(contract);
+        countCache.invalidate(COUNT_FAMILY);
+        searchIndex.index(saved);
         log.info("Contract created: {}", saved.getId());
         return saved;
     }
@@ -67,6 +88,8 @@ public class ContractService {
         mapRequestToEntity(request, contract);
         
         Contract updated = contractRepository.save(contract);
+        countCache.invalidate(COUNT_FAMILY);
+        searchIndex.index(updated);
         log.info("Contract updated: {}", updated.getId());
         return updated;
     }
@@ -75,6 +98,8 @@ public class ContractService {
     public void deleteContract(String id) {
         Contract contract = getContractById(id);
         contractRepository.delete(contract);
+        countCache.invalidate(COUNT_FAMILY);
+        searchIndex.remove(GlobalSearchIndex.CONTRACT, id);
         log.info("Contract deleted: {}", id);
     }
     
@@ -84,6 +109,7 @@ public class ContractService {
         contract.setStatus(status);
         
         Contract updated = contractRepository.save(contract);
+        countCache.invalidate(COUNT_FAMILY);
         log.info("Contract status updated: {} - {}", id, status);
         return updated;
     }
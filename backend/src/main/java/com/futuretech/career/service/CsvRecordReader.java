@@ -0,0 +1,101 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+ * Only the current record is held in memory.
+ */
+final class CsvRecordReader {
+    
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushback = -2;
+    private boolean started;
+    
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+    
+    /**
+     * Returns the next record, skipping blank lines, or null at end of input.
+     */
+    List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                if (!fieldStarted && field.length() == 0 && record.isEmpty()) {
+                    continue;
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw new BadRequestException("Unterminated quoted field at end of CSV input");
+        }
+        if (fieldStarted || field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            return record;
+        }
+        return null;
+    }
+    
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+            return c;
+        }
+        c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+    
+    private void unread(int c) {
+        pushback = c;
+    }
+}
@@ -0,0 +1,110 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.repository.FeedbackRepository;
+import com.futuretech.career.repository.InquiryRepository;
+import com.futuretech.career.repository.TestimonialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Dashboard totals kept in memory so the admin dashboard never runs COUNT queries.
+ * Seeded from the database at startup, adjusted by the services after each committed
+ * write, and periodically reconciled to absorb any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardCounters {
+    
+    private final InquiryRepository inquiryRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final TestimonialRepository testimonialRepository;
+    
+    private final LongAdder totalInquiries = new LongAdder();
+    private final LongAdder unreadInquiries = new LongAdder();
+    private final LongAdder pendingFeedback = new LongAdder();
+    private final LongAdder activeTestimonials = new LongAdder();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.dashboard.reconcile-ms:300000}",
+               fixedDelayString = "${app.dashboard.reconcile-ms:300000}")
+    public void reconcile() {
+        reconcile(totalInquiries, inquiryRepository::count, "totalInquiries");
+        reconcile(unreadInquiries, () -> inquiryRepository.countByIsRead(false), "unreadInquiries");
+        reconcile(pendingFeedback, () -> feedbackRepository.countByStatus("pending"), "pendingFeedback");
+        reconcile(activeTestimonials, () -> testimonialRepository.countByIsActive(true), "activeTestimonials");
+    }
+    
+    public long totalInquiries() {
+        return totalInquiries.sum();
+    }
+    
+    public long unreadInquiries() {
+        return unreadInquiries.sum();
+    }
+    
+    public long pendingFeedback() {
+        return pendingFeedback.sum();
+    }
+    
+    public long activeTestimonials() {
+        return activeTestimonials.sum();
+    }
+    
+    public void inquiryCreated() {
+        AfterCommit.run(() -> {
+            totalInquiries.increment();
+            unreadInquiries.increment();
+        });
+    }
+    
+    public void inquiryReadChanged(boolean wasRead, boolean isRead) {
+        if (wasRead != isRead) {
+            AfterCommit.run(() -> unreadInquiries.add(isRead ? -1 : 1));
+        }
+    }
+    
+    public void inquiryDeleted(boolean wasRead) {
+        AfterCommit.run(() -> {
+            totalInquiries.decrement();
+            if (!wasRead) {
+                unreadInquiries.decrement();
+            }
+        });
+    }
+    
+    public void feedbackStatusChanged(String oldStatus, String newStatus) {
+        boolean wasPending = "pending".equals(oldStatus);
+        boolean isPending = "pending".equals(newStatus);
+        if (wasPending != isPending) {
+            AfterCommit.run(() -> pendingFeedback.add(isPending ? 1 : -1));
+        }
+    }
+    
+    public void testimonialActiveChanged(boolean wasActive, boolean isActive) {
+        if (wasActive != isActive) {
+            AfterCommit.run(() -> activeTestimonials.add(isActive ? 1 : -1));
+        }
+    }
+    
+    // Writes racing with the count may be off by a few until the next run
+    private void reconcile(LongAdder counter, LongSupplier dbCount, String name) {
+        try {
+            long actual = dbCount.getAsLong();
+            long drift = actual - counter.sum();
+            if (drift != 0) {
+                counter.add(drift);
+                log.debug("Reconciled {} by {}", name, drift);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile {}: {}", name, e.getMessage());
+        }
+    }
+}
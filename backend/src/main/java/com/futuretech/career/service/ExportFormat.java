@@ -0,0 +1,34 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.exception.BadRequestException;
+
+public enum ExportFormat {
+    
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+    
+    private final String contentType;
+    private final String extension;
+    
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+    
+    public static ExportFormat parse(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported format: " + value + " (use csv or ndjson)");
+    }
+    
+    public String contentType(boolean gzip) {
+        return gzip ? "application/gzip" : contentType;
+    }
+    
+    public String fileName(String baseName, boolean gzip) {
+        return baseName + "." + extension + (gzip ? ".gz" : "");
+    }
+}
@@ -0,0 +1,265 @@
+package com.futuretech.career.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.model.Client;
+import com.futuretech.career.model.Contract;
+import com.futuretech.career.repository.CandidateRepository;
+import com.futuretech.career.repository.ClientRepository;
+import com.futuretech.career.repository.ContractRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams admin exports from a forward-only database cursor straight into the response body.
+ * Each row is detached once written, so memory stays flat regardless of how many rows match.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final List<Column<Candidate>> CANDIDATE_COLUMNS = List.of(
+            new Column<>("id", Candidate::getId),
+            new Column<>("name", Candidate::getName),
+            new Column<>("email", Candidate::getEmail),
+            new Column<>("phone", Candidate::getPhone),
+            new Column<>("currentCompany", Candidate::getCurrentCompany),
+            new Column<>("totalExperience", Candidate::getTotalExperience),
+            new Column<>("skills", Candidate::getSkills),
+            new Column<>("interviewStage", Candidate::getInterviewStage),
+            new Column<>("finalStatus", Candidate::getFinalStatus),
+            new Column<>("jobOpeningId", c -> c.getJobOpening().getId()),
+            new Column<>("jobOpeningTitle", c -> c.getJobOpening().getTitle()),
+            new Column<>("resumeUrl", Candidate::getResumeUrl),
+            new Column<>("linkedinUrl", Candidate::getLinkedinUrl),
+            new Column<>("hrNotes", Candidate::getHrNotes),
+            new Column<>("appliedAt", Candidate::getAppliedAt),
+            new Column<>("updatedAt", Candidate::getUpdatedAt));
+    
+    private static final List<Column<Client>> CLIENT_COLUMNS = List.of(
+            new Column<>("id", Client::getId),
+            new Column<>("name", Client::getName),
+            new Column<>("companyName", Client::getCompanyName),
+            new Column<>("email", Client::getEmail),
+            new Column<>("phone", Client::getPhone),
+            new Column<>("address", Client::getAddress),
+            new Column<>("industry", Client::getIndustry),
+            new Column<>("websiteUrl", Client::getWebsiteUrl),
+            new Column<>("contactPerson", Client::getContactPerson),
+            new Column<>("status", Client::getStatus),
+            new Column<>("notes", Client::getNotes),
+            new Column<>("createdAt", Client::getCreatedAt),
+            new Column<>("updatedAt", Client::getUpdatedAt));
+    
+    private static final List<Column<Contract>> CONTRACT_COLUMNS = List.of(
+            new Column<>("id", Contract::getId),
+            new Column<>("name", Contract::getName),
+            new Column<>("contractNumber", Contract::getContractNumber),
+            new Column<>("clientId", c -> c.getClient().getId()),
+            new Column<>("clientName", c -> c.getClient().getName()),
+            new Column<>("startDate", Contract::getStartDate),
+            new Column<>("endDate", Contract::getEndDate),
+            new Column<>("contractValue", Contract::getContractValue),
+            new Column<>("currency", Contract::getCurrency),
+            new Column<>("status", Contract::getStatus),
+            new Column<>("paymentTerms", Contract::getPaymentTerms),
+            new Column<>("documentUrl", Contract::getDocumentUrl),
+            new Column<>("notes", Contract::getNotes),
+            new Column<>("createdAt", Contract::getCreatedAt),
+            new Column<>("updatedAt", Contract::getUpdatedAt));
+    
+    private final CandidateRepository candidateRepository;
+    private final ClientRepository clientRepository;
+    private final ContractRepository contractRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    public StreamingResponseBody exportCandidates(ExportFormat format, boolean gzip, String jobOpeningId,
+                                                  String interviewStage, String finalStatus) {
+        return out -> export(out, format, gzip, "candidates", CANDIDATE_COLUMNS,
+                () -> candidateRepository.streamForExport(jobOpeningId, interviewStage, finalStatus));
+    }
+    
+    public StreamingResponseBody exportClients(ExportFormat format, boolean gzip, String status) {
+        return out -> export(out, format, gzip, "clients", CLIENT_COLUMNS,
+                () -> clientRepository.streamForExport(status));
+    }
+    
+    public StreamingResponseBody exportContracts(ExportFormat format, boolean gzip, String clientId, String status) {
+        return out -> export(out, format, gzip, "contracts", CONTRACT_COLUMNS,
+                () -> contractRepository.streamForExport(clientId, status));
+    }
+    
+    private <T> void export(OutputStream out, ExportFormat format, boolean gzip, String name,
+                            List<Column<T>> columns, Supplier<Stream<T>> source) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                compressed != null ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter<T> rowWriter = format == ExportFormat.CSV
+                ? new CsvRowWriter<>(writer, columns)
+                : new NdjsonRowWriter<>(objectMapper.getFactory().createGenerator(writer), columns);
+        
+        // PostgreSQL only honours the fetch size with auto-commit off, i.e. inside a transaction
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        long rowCount;
+        try {
+            rowWriter.begin();
+            rowCount = transaction.execute(status -> {
+                long written = 0;
+                try (Stream<T> rows = source.get()) {
+                    for (T row : (Iterable<T>) rows::iterator) {
+                        rowWriter.write(row);
+                        entityManager.detach(row);
+                        written++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return written;
+            });
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        log.info("Exported {} {} as {}", rowCount, name, format);
+    }
+    
+    private interface RowWriter<T> {
+        
+        void begin() throws IOException;
+        
+        void write(T row) throws IOException;
+        
+        void finish() throws IOException;
+    }
+    
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+    
+    private static final class CsvRowWriter<T> implements RowWriter<T> {
+        
+        private final Writer writer;
+        private final List<Column<T>> columns;
+        
+        CsvRowWriter(Writer writer, List<Column<T>> columns) {
+            this.writer = writer;
+            this.columns = columns;
+        }
+        
+        @Override
+        public void begin() throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+        
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(columns.get(i).value().apply(row));
+            }
+            writer.write("\r\n");
+        }
+        
+        @Override
+        public void finish() {
+        }
+        
+        private void writeCell(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            // Keep spreadsheets from evaluating user-entered text as a formula
+            if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            boolean quote = false;
+            for (int i = 0; i < text.length() && !quote; i++) {
+                char c = text.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+    
+    private static final class NdjsonRowWriter<T> implements RowWriter<T> {
+        
+        private final JsonGenerator generator;
+        private final List<Column<T>> columns;
+        
+        NdjsonRowWriter(JsonGenerator generator, List<Column<T>> columns) {
+            this.generator = generator;
+            this.columns = columns;
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+        
+        @Override
+        public void begin() {
+        }
+        
+        @Override
+        public void write(T row) throws IOException {
+            generator.writeStartObject();
+            for (Column<T> column : columns) {
+                Object value = column.value().apply(row);
+                if (value == null) {
+                    generator.writeNullField(column.name());
+                } else if (value instanceof Double number) {
+                    generator.writeNumberField(column.name(), number);
+                } else {
+                    generator.writeStringField(column.name(), value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
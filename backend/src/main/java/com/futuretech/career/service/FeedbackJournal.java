@@ -0,0 +1,296 @@
+package com.futuretech.career.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futuretech.career.model.Feedback;
+import com.futuretech.career.repository.FeedbackRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory-mapped journal for public feedback submissions. Each submission is appended as a
+ * length-prefixed JSON record and acknowledged immediately; a dedicated flusher thread inserts
+ * pending records in batches and advances the flushed offset after the transaction commits.
+ * <p>
+ * Layout: an int header holding the offset of the first unflushed record, then records of
+ * {@code [int length][payload]}, terminated by a zero length. The length is written after
+ * the payload, so a torn append is never replayed. On startup the records between the
+ * flushed offset and the terminator are replayed; delivery is at-least-once. Entries the
+ * database rejects (e.g. constraint violations) are moved to {@code <journal-file>.rejected}
+ * instead of being retried forever.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedbackJournal {
+    
+    private static final int DATA_START = Integer.BYTES;
+    
+    private final FeedbackRepository feedbackRepository;
+    private final DashboardCounters dashboardCounters;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${app.feedback.journal-file:feedback.journal}")
+    private String journalFile;
+    
+    @Value("${app.feedback.journal-size:16777216}")
+    private int journalSize;
+    
+    @Value("${app.feedback.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${app.feedback.flush-interval-ms:500}")
+    private long flushIntervalMs;
+    
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private TransactionTemplate transactionTemplate;
+    private final Object flushLock = new Object();
+    private Thread flusher;
+    private volatile boolean running;
+    
+    // Guarded by this
+    private int flushedPos;
+    private int writePos;
+    
+    @PostConstruct
+    void open() throws IOException {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Path path = Path.of(journalFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, journalSize);
+        
+        int header = buffer.getInt(0);
+        flushedPos = header >= DATA_START && header < journalSize ? header : DATA_START;
+        writePos = flushedPos;
+        int pending = 0;
+        int length;
+        while (writePos + Integer.BYTES <= journalSize
+                && (length = buffer.getInt(writePos)) > 0
+                && writePos + Integer.BYTES + length <= journalSize) {
+            writePos += Integer.BYTES + length;
+            pending++;
+        }
+        buffer.putInt(0, flushedPos);
+        if (pending > 0) {
+            log.info("Replaying {} unflushed feedback entries from {}", pending, path);
+        }
+        
+        // Own thread rather than @Scheduled, so index rebuilds on the shared scheduler never delay it
+        running = true;
+        flusher = new Thread(this::runFlusher, "feedback-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+    
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush feedback journal on shutdown; entries will be replayed on next start", e);
+        }
+        buffer.force();
+        channel.close();
+    }
+    
+    /**
+     * Appends a submission to the journal and forces the written range to disk before
+     * returning true, so an acknowledged submission survives a power loss. Appends are
+     * serialised, one fsync each. Returns false when the journal has no room, in which case
+     * the caller should persist the submission itself.
+     */
+    public boolean append(Feedback feedback) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(feedback);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        synchronized (this) {
+            int end = writePos + Integer.BYTES + payload.length;
+            if (end + Integer.BYTES > journalSize) {
+                compact();
+                end = writePos + Integer.BYTES + payload.length;
+                if (end + Integer.BYTES > journalSize) {
+                    return false;
+                }
+            }
+            buffer.put(writePos + Integer.BYTES, payload);
+            buffer.putInt(end, 0);
+            buffer.putInt(writePos, payload.length);
+            buffer.force(writePos, end + Integer.BYTES - writePos);
+            writePos = end;
+            return true;
+        }
+    }
+    
+    private void runFlusher() {
+        while (running) {
+            try {
+                Thread.sleep(flushIntervalMs);
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Feedback flusher failed", e);
+            }
+        }
+    }
+    
+    void flush() {
+        synchronized (flushLock) {
+            List<byte[]> batch = new ArrayList<>(batchSize);
+            while (true) {
+                synchronized (this) {
+                    int pos = flushedPos;
+                    while (pos < writePos && batch.size() < batchSize) {
+                        int length = buffer.getInt(pos);
+                        byte[] payload = new byte[length];
+                        buffer.get(pos + Integer.BYTES, payload);
+                        batch.add(payload);
+                        pos += Integer.BYTES + length;
+                    }
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                
+                int done = save(batch);
+                int consumed = 0;
+                for (int i = 0; i < done; i++) {
+                    consumed += Integer.BYTES + batch.get(i).length;
+                }
+                boolean complete = done == batch.size();
+                batch.clear();
+                
+                // Compaction may have moved the records meanwhile, but never reorders them
+                synchronized (this) {
+                    flushedPos += consumed;
+                    if (flushedPos == writePos) {
+                        buffer.putInt(DATA_START, 0);
+                        flushedPos = DATA_START;
+                        writePos = DATA_START;
+                    }
+                    buffer.putInt(0, flushedPos);
+                }
+                if (!complete) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    public synchronized int getPendingBytes() {
+        return writePos - flushedPos;
+    }
+    
+    // Moves pending records to the front, only when the copy cannot overlap them, so a crash
+    // mid-copy still leaves the header pointing at intact records.
+    private void compact() {
+        int pending = writePos - flushedPos;
+        if (flushedPos == DATA_START || DATA_START + pending + Integer.BYTES > flushedPos) {
+            return;
+        }
+        byte[] records = new byte[pending];
+        buffer.get(flushedPos, records);
+        buffer.put(DATA_START, records);
+        buffer.putInt(DATA_START + pending, 0);
+        buffer.force(DATA_START, pending + Integer.BYTES);
+        buffer.putInt(0, DATA_START);
+        buffer.force(0, DATA_START);
+        flushedPos = DATA_START;
+        writePos = DATA_START + pending;
+    }
+    
+    /**
+     * Inserts the records and returns how many of them, from the front, are done with: saved,
+     * or rejected by the database and moved to the dead-letter file. When the batch fails the
+     * records are retried one at a time, so a single bad row cannot block the journal; a
+     * transient failure stops at that record and leaves it for the next flush.
+     */
+    private int save(List<byte[]> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Feedback> entries = batch.stream().map(this::read).toList();
+                feedbackRepository.saveAll(entries);
+                entries.forEach(feedback -> dashboardCounters.feedbackStatusChanged(null, "pending"));
+            });
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("Feedback batch of {} failed, retrying entries one at a time: {}", batch.size(), e.getMessage());
+        }
+        
+        for (int i = 0; i < batch.size(); i++) {
+            byte[] payload = batch.get(i);
+            Feedback feedback;
+            try {
+                feedback = read(payload);
+            } catch (UncheckedIOException e) {
+                deadLetter(payload, e);
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    feedbackRepository.save(feedback);
+                    dashboardCounters.feedbackStatusChanged(null, "pending");
+                });
+            } catch (RuntimeException e) {
+                if (!PersistenceFailures.isRejected(e)) {
+                    log.warn("Feedback flush stopped, will retry: {}", e.getMessage());
+                    return i;
+                }
+                deadLetter(payload, e);
+            }
+        }
+        return batch.size();
+    }
+    
+    private void deadLetter(byte[] payload, RuntimeException cause) {
+        Path path = Path.of(journalFile + ".rejected");
+        try {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(payload.length + 1);
+            line.write(payload);
+            line.write('\n');
+            Files.write(path, line.toByteArray(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+            log.error("Feedback entry rejected by the database, moved to {}", path, cause);
+        } catch (IOException e) {
+            log.error("Failed to write rejected feedback entry to {}; dropping it", path, e);
+        }
+    }
+    
+    private Feedback read(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, Feedback.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
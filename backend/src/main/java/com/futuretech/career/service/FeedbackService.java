@@ -11,13 +11,21 @@ import org.springframework.stereotype.Service;
 public class FeedbackService {
     
     private final FeedbackRepository feedbackRepository;
+    private final DashboardCounters dashboardCounters;
+    private final FeedbackJournal feedbackJournal;
     
-    public Feedback createFeedback(Feedback feedback) {
+    public void createFeedback(Feedback feedback) {
         if (!feedback.getConsent()) {
             throw new BadRequestException("Consent is required to submit feedback");
         }
         
+        feedback.setId(null);
         feedback.setStatus("pending");
-        return feedbackRepository.save(feedback);
+        if (feedbackJournal.append(feedback)) {
+            return;
+        }
+        // Journal full: fall back to a direct insert
+        feedbackRepository.save(feedback);
+        dashboardCounters.feedbackStatusChanged(null, "pending");
     }
 }
@@ -0,0 +1,303 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.dto.SearchHit;
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.model.Client;
+import com.futuretech.career.model.Company;
+import com.futuretech.career.model.Contract;
+import com.futuretech.career.model.Inquiry;
+import com.futuretech.career.model.JobOpening;
+import com.futuretech.career.repository.CandidateRepository;
+import com.futuretech.career.repository.ClientRepository;
+import com.futuretech.career.repository.CompanyRepository;
+import com.futuretech.career.repository.ContractRepository;
+import com.futuretech.career.repository.InquiryRepository;
+import com.futuretech.career.repository.JobOpeningRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One full-text index over the entities the admin search box covers. Each document has a
+ * title and a body field; queries are scored with BM25F (title weighted above body), and
+ * the last query word also matches as a prefix so results update while typing.
+ * Services feed it after commit through the {@code index}/{@code remove} methods; it is
+ * also rebuilt periodically from the database to pick up anything that bypassed them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GlobalSearchIndex {
+    
+    static final String CANDIDATE = "candidate";
+    static final String CLIENT = "client";
+    static final String CONTRACT = "contract";
+    static final String JOB_OPENING = "jobOpening";
+    static final String COMPANY = "company";
+    static final String INQUIRY = "inquiry";
+    
+    private static final int TITLE = 0;
+    private static final int BODY = 1;
+    private static final double[] FIELD_WEIGHTS = {3.0, 1.0};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 16;
+    
+    private final CandidateRepository candidateRepository;
+    private final ClientRepository clientRepository;
+    private final ContractRepository contractRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final CompanyRepository companyRepository;
+    private final InquiryRepository inquiryRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReloader reloader = new IndexReloader(lock);
+    
+    // Guarded by lock. Postings map a term to the documents containing it and the per-field counts.
+    private final Map<String, Document> documents = new HashMap<>();
+    private final TreeMap<String, Map<Document, int[]>> postings = new TreeMap<>();
+    private final long[] totalFieldLength = new long[2];
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search-index.rebuild-ms:3600000}",
+               fixedDelayString = "${app.search-index.rebuild-ms:3600000}")
+    public void load() {
+        List<Document> loaded = reloader.reload(this::readDocuments, snapshot -> {
+            documents.clear();
+            postings.clear();
+            totalFieldLength[TITLE] = 0;
+            totalFieldLength[BODY] = 0;
+            snapshot.forEach(this::put);
+        });
+        log.info("Global search index loaded: {} documents, {} terms", loaded.size(), postings.size());
+    }
+    
+    // Only the indexed columns, so long unindexed TEXT columns and associations stay in the database
+    private List<Document> readDocuments() {
+        List<Document> loaded = new ArrayList<>();
+        candidateRepository.findAllSearchRows().forEach(c -> loaded.add(
+                candidate(c.getId(), c.getName(), c.getEmail(), c.getSkills(), c.getCurrentCompany())));
+        clientRepository.findAllSearchRows().forEach(c -> loaded.add(
+                client(c.getId(), c.getName(), c.getCompanyName(), c.getEmail())));
+        contractRepository.findAllSearchRows().forEach(c -> loaded.add(
+                contract(c.getId(), c.getName(), c.getContractNumber(), c.getDescription())));
+        jobOpeningRepository.findAllSearchRows().forEach(j -> loaded.add(
+                jobOpening(j.getId(), j.getTitle(), j.getDepartment(), j.getLocation())));
+        companyRepository.findAllSearchRows().forEach(c -> loaded.add(
+                company(c.getId(), c.getName(), c.getIndustry(), c.getLocation())));
+        inquiryRepository.findAllSearchRows().forEach(i -> loaded.add(
+                inquiry(i.getId(), i.getFullName(), i.getEmail(), i.getInquiryType(), i.getMessage())));
+        return loaded;
+    }
+    
+    public void index(Candidate c) {
+        apply(candidate(c.getId(), c.getName(), c.getEmail(), c.getSkills(), c.getCurrentCompany()));
+    }
+    
+    public void index(Client c) {
+        apply(client(c.getId(), c.getName(), c.getCompanyName(), c.getEmail()));
+    }
+    
+    public void index(Contract c) {
+        apply(contract(c.getId(), c.getName(), c.getContractNumber(), c.getDescription()));
+    }
+    
+    public void index(JobOpening j) {
+        apply(jobOpening(j.getId(), j.getTitle(), j.getDepartment(), j.getLocation()));
+    }
+    
+    public void index(Company c) {
+        apply(company(c.getId(), c.getName(), c.getIndustry(), c.getLocation()));
+    }
+    
+    public void index(Inquiry i) {
+        apply(inquiry(i.getId(), i.getFullName(), i.getEmail(), i.getInquiryType(), i.getMessage()));
+    }
+    
+    public void remove(String type, String id) {
+        String key = key(type, id);
+        reloader.apply(() -> removeDocument(key));
+    }
+    
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(documents.size(), 1);
+            double[] averageLength = {
+                    Math.max(1.0, (double) totalFieldLength[TITLE] / documentCount),
+                    Math.max(1.0, (double) totalFieldLength[BODY] / documentCount)
+            };
+            
+            Map<Document, Double> scores = new HashMap<>();
+            for (int t = 0; t < terms.size(); t++) {
+                String term = terms.get(t);
+                // The word being typed matches as a prefix; its best expansion counts
+                Map<String, Map<Document, int[]>> expansions = t == terms.size() - 1
+                        ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                        : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+                
+                Map<Document, Double> termScores = new HashMap<>();
+                int expanded = 0;
+                for (Map.Entry<String, Map<Document, int[]>> entry : expansions.entrySet()) {
+                    if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    Map<Document, int[]> posting = entry.getValue();
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    double exactBoost = entry.getKey().equals(term) ? 1.0 : 0.8;
+                    posting.forEach((document, frequencies) -> {
+                        double weighted = 0;
+                        for (int f = 0; f < frequencies.length; f++) {
+                            double norm = 1 - B + B * document.lengths[f] / averageLength[f];
+                            weighted += FIELD_WEIGHTS[f] * frequencies[f] / norm;
+                        }
+                        double score = exactBoost * idf * weighted / (K1 + weighted);
+                        termScores.merge(document, score, Math::max);
+                    });
+                }
+                termScores.forEach((document, score) -> scores.merge(document, score, Double::sum));
+            }
+            
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Document, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(e -> new SearchHit(e.getKey().type, e.getKey().id, e.getKey().title,
+                            e.getKey().subtitle, e.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // put() consumes the document's text, so every (re)application indexes a fresh copy
+    private void apply(Document document) {
+        reloader.apply(() -> put(document.copy()));
+    }
+    
+    private void put(Document document) {
+        removeDocument(document.key);
+        documents.put(document.key, document);
+        Set<String> terms = new HashSet<>();
+        for (int f = 0; f < document.fields.length; f++) {
+            List<String> tokens = tokenize(document.fields[f]);
+            document.lengths[f] = tokens.size();
+            totalFieldLength[f] += tokens.size();
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new HashMap<>())
+                        .computeIfAbsent(document, d -> new int[2])[f]++;
+                terms.add(token);
+            }
+        }
+        // Keep only the distinct terms for removal, not the (possibly long) source text
+        document.terms = terms.toArray(new String[0]);
+        document.fields = null;
+    }
+    
+    private void removeDocument(String key) {
+        Document previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalFieldLength[TITLE] -= previous.lengths[TITLE];
+        totalFieldLength[BODY] -= previous.lengths[BODY];
+        for (String term : previous.terms) {
+            Map<Document, int[]> posting = postings.get(term);
+            posting.remove(previous);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+    
+    private static Document candidate(String id, String name, String email, String skills, String currentCompany) {
+        return new Document(CANDIDATE, id, name, email, name, join(email, skills, currentCompany));
+    }
+    
+    private static Document client(String id, String name, String companyName, String email) {
+        return new Document(CLIENT, id, name, companyName, join(name, companyName), email);
+    }
+    
+    private static Document contract(String id, String name, String contractNumber, String description) {
+        return new Document(CONTRACT, id, name, contractNumber, join(name, contractNumber), description);
+    }
+    
+    private static Document jobOpening(String id, String title, String department, String location) {
+        return new Document(JOB_OPENING, id, title, department, title, join(department, location));
+    }
+    
+    private static Document company(String id, String name, String industry, String location) {
+        return new Document(COMPANY, id, name, industry, name, join(industry, location));
+    }
+    
+    private static Document inquiry(String id, String fullName, String email, String inquiryType, String message) {
+        return new Document(INQUIRY, id, fullName, email, fullName, join(email, inquiryType, message));
+    }
+    
+    private static String join(String... values) {
+        StringBuilder text = new StringBuilder();
+        for (String value : values) {
+            if (value != null) {
+                text.append(value).append(' ');
+            }
+        }
+        return text.toString();
+    }
+    
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    
+    private static String key(String type, String id) {
+        return type + ":" + id;
+    }
+    
+    private static class Document {
+        final String key;
+        final String type;
+        final String id;
+        final String title;
+        final String subtitle;
+        final int[] lengths = new int[2];
+        String[] fields;
+        String[] terms;
+        
+        Document(String type, String id, String title, String subtitle, String titleText, String bodyText) {
+            this.key = key(type, id);
+            this.type = type;
+            this.id = id;
+            this.title = title;
+            this.subtitle = subtitle;
+            this.fields = new String[]{titleText, bodyText};
+        }
+        
+        Document copy() {
+            return new Document(type, id, title, subtitle, fields[TITLE], fields[BODY]);
+        }
+    }
+}
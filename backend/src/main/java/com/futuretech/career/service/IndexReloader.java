@@ -0,0 +1,72 @@
+package com.futuretech.career.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps an in-memory index consistent across full reloads. The database is read without
+ * holding the index lock, so a write committed meanwhile may be missing from the snapshot;
+ * every change applied while a reload is reading is therefore recorded and replayed on top of
+ * the snapshot once it is installed. Changes must be idempotent (upsert or remove by id).
+ */
+final class IndexReloader {
+    
+    private final ReadWriteLock lock;
+    
+    // Guarded by lock; non-null while a reload is reading the database
+    private List<Runnable> pending;
+    
+    IndexReloader(ReadWriteLock lock) {
+        this.lock = lock;
+    }
+    
+    /**
+     * Applies a change to the index once the surrounding transaction commits.
+     */
+    void apply(Runnable change) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                change.run();
+                if (pending != null) {
+                    pending.add(change);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+    
+    /**
+     * Reads a snapshot, then installs it and replays the changes applied in the meantime, all
+     * under the write lock. Returns the snapshot.
+     */
+    synchronized <T> T reload(Supplier<T> read, Consumer<T> install) {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        T snapshot = null;
+        try {
+            snapshot = read.get();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (snapshot != null) {
+                    install.accept(snapshot);
+                    pending.forEach(Runnable::run);
+                }
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+        }
+        return snapshot;
+    }
+}
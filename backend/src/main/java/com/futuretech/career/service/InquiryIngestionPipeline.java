@@ -0,0 +1,309 @@
+package com.futuretech.career.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futuretech.career.model.Inquiry;
+import com.futuretech.career.repository.InquiryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind ingestion for public contact-form inquiries. With a spill file configured (the
+ * default) every submission is appended to it and fsynced before {@link #submit} returns, so
+ * an acknowledged inquiry survives a crash; a single writer drains the file in batches, one
+ * transaction per batch, relying on Hibernate JDBC batch inserts. The file is renamed to
+ * {@code .draining} while it is replayed and only deleted once every row in it has been saved,
+ * so delivery is at-least-once.
+ * <p>
+ * A batch that fails for a transient reason, such as the database being unreachable, is
+ * retried with capped backoff until it succeeds. Only inquiries the database rejects outright
+ * (constraint violations) are given up on; they are appended to {@code <spill-file>.rejected}
+ * for manual follow-up.
+ * <p>
+ * With a blank spill file submissions are only held in a bounded in-heap queue, which is
+ * lossy: anything still queued when the process dies is lost. A full queue falls back to
+ * saving on the caller's thread.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InquiryIngestionPipeline {
+    
+    private static final long INITIAL_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    
+    private final InquiryRepository inquiryRepository;
+    private final DashboardCounters dashboardCounters;
+    private final GlobalSearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${app.inquiries.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${app.inquiries.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${app.inquiries.flush-interval-ms:200}")
+    private long flushIntervalMs;
+    
+    @Value("${app.inquiries.spill-file:inquiries.spill}")
+    private String spillFile;
+    
+    private final Semaphore spilled = new Semaphore(0);
+    private BlockingQueue<Inquiry> queue;
+    private TransactionTemplate transactionTemplate;
+    private Path spillPath;
+    private Path drainingPath;
+    private Path rejectedPath;
+    private Thread writer;
+    private volatile boolean running;
+    
+    @PostConstruct
+    void start() throws IOException {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!spillFile.isBlank()) {
+            spillPath = Path.of(spillFile);
+            drainingPath = Path.of(spillFile + ".draining");
+            rejectedPath = Path.of(spillFile + ".rejected");
+            if (spillPath.getParent() != null) {
+                Files.createDirectories(spillPath.getParent());
+            }
+        } else {
+            log.warn("No inquiry spill file configured; acknowledged inquiries are lost if the process dies");
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "inquiry-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        
+        // Heap mode only: flush what the writer did not get to (the spill file is replayed on the next start)
+        List<Inquiry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            try {
+                persist(remaining);
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} queued inquiries on shutdown; they are lost", remaining.size(), e);
+            }
+        }
+    }
+    
+    /**
+     * Accepts an inquiry for asynchronous persistence. Returns once the inquiry is fsynced to
+     * the spill file, or with no spill file once it is queued in heap; when neither is possible
+     * (unwritable spill file, full queue) it is saved synchronously.
+     */
+    public void submit(Inquiry inquiry) {
+        // Stamped here so the submission time survives a replay from the spill file
+        if (inquiry.getCreatedAt() == null) {
+            inquiry.setCreatedAt(LocalDateTime.now());
+        }
+        if (spillPath != null) {
+            if (spill(inquiry)) {
+                spilled.release();
+                return;
+            }
+        } else if (queue.offer(inquiry)) {
+            return;
+        }
+        persist(List.of(inquiry));
+    }
+    
+    public int getQueuedCount() {
+        return queue.size();
+    }
+    
+    private void runWriter() {
+        List<Inquiry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (spillPath != null) {
+                    // Woken by each submission, or after the flush interval to retry leftovers
+                    spilled.tryAcquire(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    spilled.drainPermits();
+                    drainSpill();
+                    continue;
+                }
+                Inquiry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    persistWithRetry(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Put an unsaved batch back so the shutdown flush picks it up
+                for (Inquiry inquiry : batch) {
+                    if (!queue.offer(inquiry)) {
+                        log.error("Unsaved inquiry lost on shutdown: id={}", inquiry.getId());
+                    }
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.error("Inquiry writer failed", e);
+            }
+        }
+    }
+    
+    /**
+     * Saves the batch, waiting out transient failures with capped exponential backoff. Returns
+     * only once every inquiry is either saved or rejected by the database; interruption (i.e.
+     * shutdown) leaves the batch to the caller.
+     */
+    private void persistWithRetry(List<Inquiry> batch) throws InterruptedException {
+        long backoff = INITIAL_BACKOFF_MS;
+        RuntimeException rejection;
+        while (true) {
+            try {
+                persist(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (PersistenceFailures.isRejected(e)) {
+                    rejection = e;
+                    break;
+                }
+                log.warn("Inquiry batch of {} failed, retrying in {} ms: {}", batch.size(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+        if (batch.size() == 1) {
+            reject(batch.get(0), rejection);
+            return;
+        }
+        
+        // Isolate the rejected rows so they cannot hold back the rest
+        for (Inquiry inquiry : batch) {
+            try {
+                persist(List.of(inquiry));
+            } catch (RuntimeException e) {
+                if (PersistenceFailures.isRejected(e)) {
+                    reject(inquiry, e);
+                } else {
+                    persistWithRetry(List.of(inquiry));
+                }
+            }
+        }
+    }
+    
+    private void persist(List<Inquiry> inquiries) {
+        // A rolled-back attempt leaves generated ids behind, which would turn save() into a
+        // SELECT-then-merge per row; cleared ids keep every attempt a batched insert
+        inquiries.forEach(inquiry -> inquiry.setId(null));
+        transactionTemplate.executeWithoutResult(status -> {
+            inquiryRepository.saveAll(inquiries);
+            inquiries.forEach(inquiry -> {
+                dashboardCounters.inquiryCreated();
+                searchIndex.index(inquiry);
+            });
+        });
+    }
+    
+    /**
+     * Replays the spill file. It is first renamed to {@code .draining} so new spills go to a
+     * fresh file; the draining file is only deleted once every row in it has been saved or
+     * moved to the rejected file, so an interrupted drain is replayed in full on the next pass.
+     */
+    private void drainSpill() throws InterruptedException {
+        try {
+            synchronized (this) {
+                if (!Files.exists(drainingPath)) {
+                    if (!Files.exists(spillPath) || Files.size(spillPath) == 0) {
+                        return;
+                    }
+                    Files.move(spillPath, drainingPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            
+            List<Inquiry> batch = new ArrayList<>(batchSize);
+            long row = 0;
+            try (BufferedReader reader = Files.newBufferedReader(drainingPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    row++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(line, Inquiry.class));
+                    } catch (IOException e) {
+                        log.error("Unreadable row {} in inquiry spill file {}, moving it to {}",
+                                row, drainingPath, rejectedPath);
+                        appendLine(rejectedPath, line);
+                        continue;
+                    }
+                    if (batch.size() == batchSize) {
+                        persistWithRetry(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                persistWithRetry(batch);
+            }
+            Files.delete(drainingPath);
+            log.info("Drained inquiry spill file {}", drainingPath);
+        } catch (IOException e) {
+            log.error("Failed to drain inquiry spill file {}", drainingPath, e);
+        }
+    }
+    
+    // Shares the lock with the rename in drainSpill, so no append lands in a file being drained
+    private synchronized boolean spill(Inquiry inquiry) {
+        try {
+            appendLine(spillPath, objectMapper.writeValueAsString(inquiry));
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to spill inquiry to {}", spillPath, e);
+            return false;
+        }
+    }
+    
+    private void reject(Inquiry inquiry, RuntimeException cause) {
+        if (rejectedPath != null) {
+            try {
+                appendLine(rejectedPath, objectMapper.writeValueAsString(inquiry));
+                log.error("Inquiry {} rejected by the database, moved to {}", inquiry.getId(), rejectedPath, cause);
+                return;
+            } catch (IOException e) {
+                log.error("Failed to write rejected inquiry to {}", rejectedPath, e);
+            }
+        }
+        log.error("Dropping inquiry {} rejected by the database", inquiry.getId(), cause);
+    }
+    
+    private static synchronized void appendLine(Path path, String line) throws IOException {
+        Files.writeString(path, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+}
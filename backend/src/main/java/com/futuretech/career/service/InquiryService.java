@@ -3,6 +3,7 @@ package com.futuretech.career.service;
 import com.futuretech.career.model.Inquiry;
 import com.futuretech.career.repository.InquiryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -10,9 +11,23 @@ import org.springframework.stereotype.Service;
 public class InquiryService {
     
     private final InquiryRepository inquiryRepository;
+    private final DashboardCounters dashboardCounters;
+    private final InquiryIngestionPipeline ingestionPipeline;
+    private final GlobalSearchIndex searchIndex;
     
-    public Inquiry createInquiry(Inquiry inquiry) {
+    @Value("${app.inquiries.write-behind:true}")
+    private boolean writeBehind;
+    
+    public void createInquiry(Inquiry inquiry) {
+        inquiry.setId(null);
+        inquiry.setCreatedAt(null);
         inquiry.setIsRead(false);
-        return inquiryRepository.save(inquiry);
+        if (writeBehind) {
+            ingestionPipeline.submit(inquiry);
+            return;
+        }
+        inquiryRepository.save(inquiry);
+        dashboardCounters.inquiryCreated();
+        searchIndex.index(inquiry);
     }
 }
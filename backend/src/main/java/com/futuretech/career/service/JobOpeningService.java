@@ -1,6 +1,9 @@
 package com.futuretech.career.service;
 
+import com.futuretech.career.dto.CursorResponse;
 import com.futuretech.career.dto.JobOpeningRequest;
+import com.futuretech.career.dto.PageCursor;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.Company;
 import com.futuretech.career.model.JobOpening;
 import com.futuretech.career.repository.CompanyRepository;
@@ -21,27 +24,40 @@ import java.util.List;
 @Slf4j
 public class JobOpeningService {
     
+    private static final String COUNT_FAMILY = "jobOpenings";
+    
     private final JobOpeningRepository jobOpeningRepository;
     private final CompanyRepository companyRepository;
+    private final ListCountCache countCache;
+    private final OpenPositionIndex openPositionIndex;
+    private final CandidateSkillIndex candidateSkillIndex;
+    private final GlobalSearchIndex searchIndex;
     
-    public Page<JobOpening> getAllJobOpenings(int page, int size) {
+    public SliceResponse<JobOpening> getAllJobOpenings(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return jobOpeningRepository.findAll(pageable);
+        return SliceResponse.of(jobOpeningRepository.findSliceBy(pageable),
+                countCache.get(COUNT_FAMILY, jobOpeningRepository::count));
     }
     
-    public Page<JobOpening> getJobOpeningsByStatus(String status, int page, int size) {
+    public SliceResponse<JobOpening> getJobOpeningsByStatus(String status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return jobOpeningRepository.findByStatus(status, pageable);
+        return SliceResponse.of(jobOpeningRepository.findSliceByStatus(status, pageable),
+                countCache.get(COUNT_FAMILY + ":status=" + status,
+                        () -> jobOpeningRepository.countByStatus(status)));
     }
     
-    public Page<JobOpening> getJobOpeningsByDepartment(String department, int page, int size) {
+    public SliceResponse<JobOpening> getJobOpeningsByDepartment(String department, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return jobOpeningRepository.findByDepartment(department, pageable);
+        return SliceResponse.of(jobOpeningRepository.findSliceByDepartment(department, pageable),
+                countCache.get(COUNT_FAMILY + ":department=" + department,
+                        () -> jobOpeningRepository.countByDepartment(department)));
     }
     
-    public Page<JobOpening> getJobOpeningsByStatusAndDepartment(String status, String department, int page, int size) {
+    public SliceResponse<JobOpening> getJobOpeningsByStatusAndDepartment(String status, String department, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return jobOpeningRepository.findByStatusAndDepartment(status, department, pageable);
+        return SliceResponse.of(jobOpeningRepository.findSliceByStatusAndDepartment(status, department, pageable),
+                countCache.get(COUNT_FAMILY + ":status=" + status + ":department=" + department,
+                        () -> jobOpeningRepository.countByStatusAndDepartment(status, department)));
     }
     
     public Page<JobOpening> getJobOpeningsByCompany(String companyId, int page, int size) {
@@ -49,6 +65,13 @@ public class JobOpeningService {
         return jobOpeningRepository.findByCompanyId(companyId, pageable);
     }
     
+    public CursorResponse<JobOpening> getJobOpeningsAfter(String after, int size, String status, String department) {
+        PageCursor cursor = PageCursor.parse(after);
+        List<JobOpening> rows = jobOpeningRepository.findPageAfter(cursor.getTimestamp(), cursor.getId(),
+                status, department, PageRequest.of(0, size + 1));
+        return CursorResponse.of(rows, size, j -> PageCursor.encode(j.getCreatedAt(), j.getId()));
+    }
+    
     public JobOpening getJobOpeningById(String id) {
         return jobOpeningRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job opening not found with id: " + id));
@@ -60,6 +83,9 @@ public class JobOpeningService {
         mapRequestToEntity(request, jobOpening);
         
         JobOpening saved = jobOpeningRepository.save(jobOpening);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(saved);
+        searchIndex.index(saved);
         log.info("Job opening created: {}", saved.getId());
         return saved;
     }
@@ -70,6 +96,9 @@ public class JobOpeningService {
         mapRequestToEntity(request, jobOpening);
         
         JobOpening updated = jobOpeningRepository.save(jobOpening);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(updated);
+        searchIndex.index(updated);
         log.info("Job opening updated: {}", updated.getId());
         return updated;
     }
@@ -77,7 +106,16 @@ public class JobOpeningService {
     @Transactional
     public void deleteJobOpening(String id) {
         JobOpening jobOpening = getJobOpeningById(id);
+        // Candidates cascade with the job opening
+        jobOpening.getCandidates().forEach(candidate -> {
+            candidateSkillIndex.remove(candidate.getId());
+            searchIndex.remove(GlobalSearchIndex.CANDIDATE, candidate.getId());
+        });
         jobOpeningRepository.delete(jobOpening);
+        countCache.invalidate(COUNT_FAMILY);
+        countCache.invalidate("candidates");
+        openPositionIndex.remove(OpenPositionIndex.JOB_OPENING, id);
+        searchIndex.remove(GlobalSearchIndex.JOB_OPENING, id);
         log.info("Job opening deleted: {}", id);
     }
     
@@ -86,6 +124,8 @@ public class JobOpeningService {
         JobOpening jobOpening = getJobOpeningById(id);
         jobOpening.setStatus("open".equals(jobOpening.getStatus()) ? "closed" : "open");
         JobOpening updated = jobOpeningRepository.save(jobOpening);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(updated);
         log.info("Job opening status toggled: {} - {}", id, updated.getStatus());
         return updated;
     }
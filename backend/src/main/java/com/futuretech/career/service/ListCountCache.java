@@ -0,0 +1,64 @@
+package com.futuretech.career.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-filter row counts for admin lists, refreshed in the background so page turns
+ * never run COUNT(*). Services invalidate a family (e.g. "candidates") on writes, which
+ * makes the next read recount that family.
+ */
+@Component
+@Slf4j
+public class ListCountCache {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    @Value("${app.count-cache.idle-ms:600000}")
+    private long idleMs;
+    
+    public long get(String key, LongSupplier counter) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry(counter, counter.getAsLong()));
+        entry.lastReadAt = System.currentTimeMillis();
+        return entry.value;
+    }
+    
+    /**
+     * Drops the cached counts of a family once the surrounding transaction commits; invalidating
+     * earlier would let a concurrent read recount and cache the pre-commit figure.
+     */
+    public void invalidate(String family) {
+        AfterCommit.run(() -> entries.keySet().removeIf(key -> key.equals(family) || key.startsWith(family + ":")));
+    }
+    
+    @Scheduled(fixedDelayString = "${app.count-cache.refresh-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> now - e.getValue().lastReadAt > idleMs);
+        entries.forEach((key, entry) -> {
+            try {
+                entry.value = entry.counter.getAsLong();
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh count for {}: {}", key, e.getMessage());
+            }
+        });
+    }
+    
+    private static class Entry {
+        private final LongSupplier counter;
+        private volatile long value;
+        private volatile long lastReadAt;
+        
+        private Entry(LongSupplier counter, long value) {
+            this.counter = counter;
+            this.value = value;
+            this.lastReadAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Failed-login counters per email and per client IP. After the free attempts are used up,
+ * each further failure doubles the lock-out, capped at the configured maximum.
+ */
+@Component
+public class LoginThrottle {
+    
+    private static final long FORGET_AFTER_MS = 24 * 60 * 60 * 1000L;
+    
+    @Value("${app.auth.free-attempts:3}")
+    private int freeAttempts;
+    
+    @Value("${app.auth.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+    
+    @Value("${app.auth.backoff-max-ms:900000}")
+    private long backoffMaxMs;
+    
+    @Value("${app.auth.max-tracked-keys:100000}")
+    private int maxTrackedKeys;
+    
+    private final Map<String, Attempts> attempts = new ConcurrentHashMap<>();
+    
+    public void checkAllowed(String email, String ip) {
+        long now = System.currentTimeMillis();
+        long wait = Math.max(remaining(emailKey(email), now), remaining(ipKey(ip), now));
+        if (wait > 0) {
+            throw new TooManyRequestsException("Too many failed login attempts. Please try again later.",
+                    (wait + 999) / 1000);
+        }
+    }
+    
+    public void recordFailure(String email, String ip) {
+        long now = System.currentTimeMillis();
+        fail(emailKey(email), now);
+        fail(ipKey(ip), now);
+    }
+    
+    public void recordSuccess(String email, String ip) {
+        attempts.remove(emailKey(email));
+        attempts.remove(ipKey(ip));
+    }
+    
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        attempts.values().removeIf(a -> a.blockedUntil <= now && now - a.lastFailure > FORGET_AFTER_MS);
+    }
+    
+    private long remaining(String key, long now) {
+        Attempts a = attempts.get(key);
+        return a == null ? 0 : a.blockedUntil - now;
+    }
+    
+    private void fail(String key, long now) {
+        if (attempts.size() >= maxTrackedKeys && !attempts.containsKey(key)) {
+            evictExpired();
+            if (attempts.size() >= maxTrackedKeys) {
+                return;
+            }
+        }
+        attempts.compute(key, (k, a) -> {
+            Attempts next = a == null ? new Attempts() : a;
+            next.failures++;
+            next.lastFailure = now;
+            int excess = next.failures - freeAttempts;
+            if (excess > 0) {
+                long delay = backoffBaseMs << Math.min(excess - 1, 30);
+                next.blockedUntil = now + Math.min(delay, backoffMaxMs);
+            }
+            return next;
+        });
+    }
+    
+    private static String emailKey(String email) {
+        return "e:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+    
+    private static String ipKey(String ip) {
+        return "i:" + ip;
+    }
+    
+    private static class Attempts {
+        int failures;
+        long lastFailure;
+        long blockedUntil;
+    }
+}
@@ -0,0 +1,94 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.dto.CandidateMatch;
+import com.futuretech.career.dto.CandidateSummary;
+import com.futuretech.career.dto.PositionMatch;
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.model.ResourceRequirement;
+import com.futuretech.career.repository.CandidateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class MatchingService {
+    
+    private static final double SKILL_WEIGHT = 0.6;
+    private static final double EXPERIENCE_WEIGHT = 0.3;
+    private static final double LOCATION_WEIGHT = 0.1;
+    private static final int MAX_MATCHES = 100;
+    
+    private final ResourceRequirementService resourceRequirementService;
+    private final CandidateRepository candidateRepository;
+    private final CandidateSkillIndex skillIndex;
+    private final CandidateService candidateService;
+    private final OpenPositionIndex openPositionIndex;
+    
+    public List<CandidateMatch> matchCandidates(String requirementId, int limit) {
+        ResourceRequirement requirement = resourceRequirementService.getResourceRequirementById(requirementId);
+        List<String> requiredTerms = SkillTerms.query(requirement.getSkillsRequired());
+        String location = isFlexibleLocation(requirement.getLocation()) ? null : requirement.getLocation();
+        Double minExperience = requirement.getMinExperience();
+        Double maxExperience = requirement.getMaxExperience();
+        
+        List<CandidateMatch> matches = skillIndex.topMatches(requiredTerms, location,
+                (matched, experience, sameLocation) -> score(matched, requiredTerms.size(),
+                        experienceFit(experience, minExperience, maxExperience), sameLocation),
+                Math.max(1, Math.min(limit, MAX_MATCHES)));
+        
+        Map<String, CandidateSummary> candidates = candidateRepository.findSummariesByIdIn(
+                        matches.stream().map(CandidateMatch::getCandidateId).toList()).stream()
+                .collect(Collectors.toMap(CandidateSummary::getId, Function.identity()));
+        matches.forEach(match -> match.setCandidate(candidates.get(match.getCandidateId())));
+        matches.removeIf(match -> match.getCandidate() == null);
+        return matches;
+    }
+    
+    public List<PositionMatch> matchPositions(String candidateId, int limit) {
+        Candidate candidate = candidateService.getCandidateById(candidateId);
+        double experience = candidate.getTotalExperience() != null ? candidate.getTotalExperience() : 0;
+        String candidateLocation = candidate.getJobOpening() != null ? candidate.getJobOpening().getLocation() : null;
+        
+        List<PositionMatch> matches = new ArrayList<>();
+        openPositionIndex.findBySkills(SkillTerms.of(candidate.getSkills())).forEach((position, matched) -> {
+            boolean sameLocation = isFlexibleLocation(position.getLocation())
+                    || (candidateLocation != null && position.getLocation().trim().equalsIgnoreCase(candidateLocation.trim()));
+            double score = score(matched, position.getTerms().size(),
+                    experienceFit(experience, position.getMinExperience(), position.getMaxExperience()), sameLocation);
+            matches.add(new PositionMatch(position.getType(), position.getId(), position.getTitle(),
+                    position.getLocation(), score, matched, position.getTerms().size()));
+        });
+        matches.sort(Comparator.comparingDouble(PositionMatch::getScore).reversed());
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, Math.max(limit, 0))) : matches;
+    }
+    
+    static double score(int matchedSkills, int requiredSkills, double experienceFit, boolean sameLocation) {
+        double skillScore = requiredSkills == 0 ? 0 : (double) matchedSkills / requiredSkills;
+        return SKILL_WEIGHT * skillScore
+                + EXPERIENCE_WEIGHT * experienceFit
+                + (sameLocation ? LOCATION_WEIGHT : 0);
+    }
+    
+    // 1 inside the range, falling off linearly with the distance relative to the bound
+    static double experienceFit(double experience, Double minExperience, Double maxExperience) {
+        if (minExperience != null && experience < minExperience) {
+            return Math.max(0, 1 - (minExperience - experience) / Math.max(minExperience, 1));
+        }
+        if (maxExperience != null && experience > maxExperience) {
+            return Math.max(0, 1 - (experience - maxExperience) / Math.max(maxExperience, 1));
+        }
+        return 1;
+    }
+    
+    static boolean isFlexibleLocation(String location) {
+        return location == null || location.isBlank() || location.toLowerCase(Locale.ROOT).contains("remote");
+    }
+}
@@ -0,0 +1,162 @@
+package com.futuretech.career.service;
+
+import com.futuretech.career.model.JobOpening;
+import com.futuretech.career.model.ResourceRequirement;
+import com.futuretech.career.repository.JobOpeningRepository;
+import com.futuretech.career.repository.ResourceRequirementRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skill index over open resource requirements and open job openings, used to find the
+ * positions a candidate fits without scanning every one. Positions enter and leave the
+ * index as their status changes; job openings use their requirements text as skills.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenPositionIndex {
+    
+    static final String RESOURCE_REQUIREMENT = "resourceRequirement";
+    static final String JOB_OPENING = "jobOpening";
+    
+    private final ResourceRequirementRepository resourceRequirementRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Position>> postings = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        positions.clear();
+        postings.clear();
+        resourceRequirementRepository.findByStatus("open").forEach(this::putRequirement);
+        jobOpeningRepository.findByStatus("open").forEach(this::putJobOpening);
+        log.info("Open position index loaded: {} positions, {} skill terms", positions.size(), postings.size());
+    }
+    
+    public void update(ResourceRequirement requirement) {
+        ResourceRequirement snapshot = copyOf(requirement);
+        AfterCommit.run(() -> putRequirement(snapshot));
+    }
+    
+    public void update(JobOpening jobOpening) {
+        JobOpening snapshot = copyOf(jobOpening);
+        AfterCommit.run(() -> putJobOpening(snapshot));
+    }
+    
+    public void remove(String type, String id) {
+        AfterCommit.run(() -> removePosition(key(type, id)));
+    }
+    
+    /**
+     * Open positions sharing at least one skill term with the candidate, with the number
+     * of required terms each one's candidate has.
+     */
+    public Map<Position, Integer> findBySkills(Collection<String> candidateTerms) {
+        Map<Position, Integer> matched = new HashMap<>();
+        for (String term : candidateTerms) {
+            Set<Position> hits = postings.get(term);
+            if (hits != null) {
+                hits.forEach(position -> matched.merge(position, 1, Integer::sum));
+            }
+        }
+        return matched;
+    }
+    
+    private synchronized void putRequirement(ResourceRequirement requirement) {
+        String key = key(RESOURCE_REQUIREMENT, requirement.getId());
+        removePosition(key);
+        if ("open".equals(requirement.getStatus())) {
+            addPosition(key, new Position(RESOURCE_REQUIREMENT, requirement.getId(), requirement.getRole(),
+                    requirement.getLocation(), requirement.getMinExperience(), requirement.getMaxExperience(),
+                    SkillTerms.query(requirement.getSkillsRequired())));
+        }
+    }
+    
+    private synchronized void putJobOpening(JobOpening jobOpening) {
+        String key = key(JOB_OPENING, jobOpening.getId());
+        removePosition(key);
+        if ("open".equals(jobOpening.getStatus())) {
+            addPosition(key, new Position(JOB_OPENING, jobOpening.getId(), jobOpening.getTitle(),
+                    jobOpening.getLocation(), null, null, SkillTerms.query(jobOpening.getRequirements())));
+        }
+    }
+    
+    private void addPosition(String key, Position position) {
+        if (position.getTerms().isEmpty()) {
+            return;
+        }
+        positions.put(key, position);
+        for (String term : position.getTerms()) {
+            postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(position);
+        }
+    }
+    
+    private synchronized void removePosition(String key) {
+        Position previous = positions.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.getTerms()) {
+            Set<Position> hits = postings.get(term);
+            if (hits != null) {
+                hits.remove(previous);
+                if (hits.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    private static String key(String type, String id) {
+        return type + ":" + id;
+    }
+    
+    // Only the indexed fields, so the after-commit callback never touches a lazy association
+    private static ResourceRequirement copyOf(ResourceRequirement requirement) {
+        ResourceRequirement copy = new ResourceRequirement();
+        copy.setId(requirement.getId());
+        copy.setRole(requirement.getRole());
+        copy.setStatus(requirement.getStatus());
+        copy.setLocation(requirement.getLocation());
+        copy.setMinExperience(requirement.getMinExperience());
+        copy.setMaxExperience(requirement.getMaxExperience());
+        copy.setSkillsRequired(requirement.getSkillsRequired());
+        return copy;
+    }
+    
+    private static JobOpening copyOf(JobOpening jobOpening) {
+        JobOpening copy = new JobOpening();
+        copy.setId(jobOpening.getId());
+        copy.setTitle(jobOpening.getTitle());
+        copy.setStatus(jobOpening.getStatus());
+        copy.setLocation(jobOpening.getLocation());
+        copy.setRequirements(jobOpening.getRequirements());
+        return copy;
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Position {
+        private final String type;
+        private final String id;
+        private final String title;
+        private final String location;
+        private final Double minExperience;
+        private final Double maxExperience;
+        private final List<String> terms;
+    }
+}
@@ -0,0 +1,110 @@
+package com.futuretech.career.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of dense ordinals that stays small whether it is sparse or dense. Sparse sets (the
+ * common case for skill terms) are a sorted int array, four bytes per member; once the set
+ * covers more than 1/32 of its ordinal range a BitSet is the smaller layout and the set
+ * switches to it, switching back when it thins out below 1/64. Not thread-safe.
+ */
+final class OrdinalSet {
+    
+    private static final int MIN_BITSET_SIZE = 64;
+    
+    private int[] sorted = new int[2];
+    private BitSet bits;
+    private int size;
+    
+    void add(int ordinal) {
+        if (bits != null) {
+            if (!bits.get(ordinal)) {
+                bits.set(ordinal);
+                size++;
+            }
+            return;
+        }
+        int at = Arrays.binarySearch(sorted, 0, size, ordinal);
+        if (at >= 0) {
+            return;
+        }
+        at = -at - 1;
+        if (size == sorted.length) {
+            sorted = Arrays.copyOf(sorted, size * 2);
+        }
+        System.arraycopy(sorted, at, sorted, at + 1, size - at);
+        sorted[at] = ordinal;
+        size++;
+        if (size >= MIN_BITSET_SIZE && size > (sorted[size - 1] + 1) / 32) {
+            bits = new BitSet(sorted[size - 1] + 1);
+            for (int i = 0; i < size; i++) {
+                bits.set(sorted[i]);
+            }
+            sorted = null;
+        }
+    }
+    
+    void remove(int ordinal) {
+        if (bits != null) {
+            if (bits.get(ordinal)) {
+                bits.clear(ordinal);
+                size--;
+                if (size < MIN_BITSET_SIZE / 2 || size < bits.length() / 64) {
+                    sorted = new int[Math.max(2, size)];
+                    int i = 0;
+                    for (int o = bits.nextSetBit(0); o >= 0; o = bits.nextSetBit(o + 1)) {
+                        sorted[i++] = o;
+                    }
+                    bits = null;
+                }
+            }
+            return;
+        }
+        int at = Arrays.binarySearch(sorted, 0, size, ordinal);
+        if (at < 0) {
+            return;
+        }
+        System.arraycopy(sorted, at + 1, sorted, at, size - at - 1);
+        size--;
+        if (sorted.length > 8 && size < sorted.length / 4) {
+            sorted = Arrays.copyOf(sorted, sorted.length / 2);
+        }
+    }
+    
+    boolean contains(int ordinal) {
+        return bits != null ? bits.get(ordinal) : Arrays.binarySearch(sorted, 0, size, ordinal) >= 0;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Calls {@code action} for each member in ascending order.
+     */
+    void forEach(IntConsumer action) {
+        if (bits != null) {
+            for (int o = bits.nextSetBit(0); o >= 0; o = bits.nextSetBit(o + 1)) {
+                action.accept(o);
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                action.accept(sorted[i]);
+            }
+        }
+    }
+    
+    void orInto(BitSet target) {
+        if (bits != null) {
+            target.or(bits);
+        } else {
+            forEach(target::set);
+        }
+    }
+}
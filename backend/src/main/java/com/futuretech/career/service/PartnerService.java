@@ -19,7 +19,10 @@ import java.util.List;
 @Slf4j
 public class PartnerService {
     
+    public static final String RESPONSE_FAMILY = "partners";
+    
     private final PartnerRepository partnerRepository;
+    private final PublicResponseCache responseCache;
     
     public List<Partner> getActivePartners() {
         return partnerRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
@@ -46,6 +49,7 @@ public class PartnerService {
         partner.setDisplayOrder(request.getDisplayOrder());
         
         Partner saved = partnerRepository.save(partner);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Created partner: {}", saved.getId());
         return saved;
     }
@@ -62,6 +66,7 @@ public class PartnerService {
         partner.setDisplayOrder(request.getDisplayOrder());
         
         Partner updated = partnerRepository.save(partner);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Updated partner: {}", updated.getId());
         return updated;
     }
@@ -70,6 +75,7 @@ public class PartnerService {
     public void deletePartner(String id) {
         Partner partner = getPartnerById(id);
         partnerRepository.delete(partner);
+        responseCache.invalidate(RESPONSE_FAMILY);
         log.info("Deleted partner: {}", id);
     }
     
@@ -77,6 +83,7 @@ public class PartnerService {
     public Partner togglePartnerStatus(String id) {
         Partner partner = getPartnerById(id);
         partner.setIsActive(!partner.getIsActive());
+        responseCache.invalidate(RESPONSE_FAMILY);
         return partnerRepository.save(partner);
     }
 }
@@ -0,0 +1,20 @@
+package com.futuretech.career.service;
+
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Classifies write failures for the write-behind queues: a row the database rejects
+ * outright fails the same way on every attempt, anything else is worth retrying.
+ */
+final class PersistenceFailures {
+    
+    private PersistenceFailures() {
+    }
+    
+    static boolean isRejected(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException
+                || NestedExceptionUtils.getMostSpecificCause(e) instanceof ConstraintViolationException;
+    }
+}
@@ -0,0 +1,191 @@
+package com.futuretech.career.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futuretech.career.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds fully serialized {@link ApiResponse} bodies (plain and gzip) for public GET
+ * endpoints so repeat requests skip entity loading and Jackson entirely.
+ * <p>
+ * Every resource family (content, SEO, companies, ...) carries a version that admin
+ * services bump on each write; the version doubles as the strong ETag, so conditional
+ * requests are answered with 304 before any loading or serialization. Bumps inside a
+ * transaction are applied after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicResponseCache {
+    
+    // Distinguishes versions across restarts, when the counters start over
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedBody> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    
+    public ResponseEntity<byte[]> respond(String family, String key, Supplier<?> loader,
+                                          String acceptEncoding, String ifNoneMatch) {
+        long version = versionOf(family);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (matches(ifNoneMatch, family, version)) {
+            return notModified(family, version, gzip);
+        }
+        
+        CachedBody body = entries.get(key);
+        if (body == null || body.version() != version) {
+            CachedBody loaded = serialize(loader.get(), version);
+            // Concurrent loads may finish out of order; keep whichever saw the newer version
+            body = entries.merge(key, loaded, (current, candidate) ->
+                    current.version() >= candidate.version() ? current : candidate);
+        }
+        if (matchesAny(ifNoneMatch)) {
+            return notModified(family, body.version(), gzip);
+        }
+        return toResponse(family, body, gzip);
+    }
+    
+    public ResponseEntity<byte[]> respondUncached(String family, Supplier<?> loader,
+                                                  String acceptEncoding, String ifNoneMatch) {
+        long version = versionOf(family);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (matches(ifNoneMatch, family, version)) {
+            return notModified(family, version, gzip);
+        }
+        CachedBody body = serialize(loader.get(), version);
+        if (matchesAny(ifNoneMatch)) {
+            return notModified(family, version, gzip);
+        }
+        return toResponse(family, body, gzip);
+    }
+    
+    public void invalidate(String family) {
+        AfterCommit.run(() -> versions.computeIfAbsent(family, f -> new AtomicLong()).incrementAndGet());
+    }
+    
+    private long versionOf(String family) {
+        return versions.computeIfAbsent(family, f -> new AtomicLong()).get();
+    }
+    
+    private String etag(String family, long version, boolean gzip) {
+        return "\"" + family + "-" + bootId + "-" + version + (gzip ? "-gzip" : "") + "\"";
+    }
+    
+    private boolean matches(String ifNoneMatch, String family, long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String plain = etag(family, version, false);
+        String gzipped = etag(family, version, true);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(plain) || candidate.equals(gzipped)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // "*" matches only an existing representation, so it is checked after the loader succeeded
+    // (a missing resource makes the loader throw and the request fail as usual)
+    private static boolean matchesAny(String ifNoneMatch) {
+        return ifNoneMatch != null && ifNoneMatch.trim().equals("*");
+    }
+    
+    /**
+     * True when the Accept-Encoding header lists gzip (or x-gzip, or failing those {@code *})
+     * with a non-zero quality value.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+    
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+    
+    private ResponseEntity<byte[]> notModified(String family, long version, boolean gzip) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag(family, version, gzip))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+    
+    private ResponseEntity<byte[]> toResponse(String family, CachedBody body, boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.setETag(etag(family, body.version(), gzip));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(gzip ? body.gzipped() : body.plain(), headers, HttpStatus.OK);
+    }
+    
+    private CachedBody serialize(Object data, long version) {
+        try {
+            byte[] plain = objectMapper.writeValueAsBytes(ApiResponse.success(data));
+            ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(plain);
+            }
+            return new CachedBody(plain, out.toByteArray(), version);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize response: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private record CachedBody(byte[] plain, byte[] gzipped, long version) {
+    }
+}
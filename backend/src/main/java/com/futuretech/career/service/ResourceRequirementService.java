@@ -1,13 +1,14 @@
 package com.futuretech.career.service;
 
 import com.futuretech.career.dto.ResourceRequirementRequest;
+import com.futuretech.career.dto.ResourceRequirementSummary;
+import com.futuretech.career.dto.SliceResponse;
 import com.futuretech.career.model.Client;
 import com.futuretech.career.model.ResourceRequirement;
 import com.futuretech.career.repository.ClientRepository;
 import com.futuretech.career.repository.ResourceRequirementRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,26 +22,35 @@ import java.util.List;
 @Slf4j
 public class ResourceRequirementService {
     
+    private static final String COUNT_FAMILY = "resourceRequirements";
+    
     private final ResourceRequirementRepository resourceRequirementRepository;
     private final ClientRepository clientRepository;
+    private final ListCountCache countCache;
+    private final OpenPositionIndex openPositionIndex;
     
-    public Page<ResourceRequirement> getAllResourceRequirements(int page, int size) {
+    public SliceResponse<ResourceRequirementSummary> getAllResourceRequirements(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return resourceRequirementRepository.findAll(pageable);
+        return SliceResponse.of(resourceRequirementRepository.findSummaries(pageable),
+                countCache.get(COUNT_FAMILY, resourceRequirementRepository::count));
     }
     
-    public Page<ResourceRequirement> getResourceRequirementsByClient(String clientId, int page, int size) {
+    public SliceResponse<ResourceRequirementSummary> getResourceRequirementsByClient(String clientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return resourceRequirementRepository.findByClientId(clientId, pageable);
+        return SliceResponse.of(resourceRequirementRepository.findSummariesByClientId(clientId, pageable),
+                countCache.get(COUNT_FAMILY + ":client=" + clientId,
+                        () -> resourceRequirementRepository.countByClientId(clientId)));
     }
     
-    public Page<ResourceRequirement> getResourceRequirementsByStatus(String status, int page, int size) {
+    public SliceResponse<ResourceRequirementSummary> getResourceRequirementsByStatus(String status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return resourceRequirementRepository.findByStatus(status, pageable);
+        return SliceResponse.of(resourceRequirementRepository.findSummariesByStatus(status, pageable),
+                countCache.get(COUNT_FAMILY + ":status=" + status,
+                        () -> resourceRequirementRepository.countByStatus(status)));
     }
     
-    public List<ResourceRequirement> getOpenResourceRequirements() {
-        return resourceRequirementRepository.findByStatus("open");
+    public List<ResourceRequirementSummary> getOpenResourceRequirements() {
+        return resourceRequirementRepository.findSummariesByStatus("open");
     }
     
     public ResourceRequirement getResourceRequirementById(String id) {
@@ -54,6 +64,8 @@ public class ResourceRequirementService {
         mapRequestToEntity(request, resourceRequirement);
         
         ResourceRequirement saved = resourceRequirementRepository.save(resourceRequirement);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(saved);
         log.info("Resource requirement created: {}", saved.getId());
         return saved;
     }
@@ -64,6 +76,8 @@ public class ResourceRequirementService {
         mapRequestToEntity(request, resourceRequirement);
         
         ResourceRequirement updated = resourceRequirementRepository.save(resourceRequirement);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(updated);
         log.info("Resource requirement updated: {}", updated.getId());
         return updated;
     }
@@ -74,6 +88,8 @@ public class ResourceRequirementService {
         resourceRequirement.setStatus(status);
         
         ResourceRequirement updated = resourceRequirementRepository.save(resourceRequirement);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.update(updated);
         log.info("Resource requirement status updated: {} - {}", id, status);
         return updated;
     }
@@ -82,6 +98,8 @@ public class ResourceRequirementService {
     public void deleteResourceRequirement(String id) {
         ResourceRequirement resourceRequirement = getResourceRequirementById(id);
         resourceRequirementRepository.delete(resourceRequirement);
+        countCache.invalidate(COUNT_FAMILY);
+        openPositionIndex.remove(OpenPositionIndex.RESOURCE_REQUIREMENT, id);
         log.info("Resource requirement deleted: {}", id);
     }
     
@@ -4,17 +4,38 @@ import com.futuretech.career.exception.ResourceNotFoundException;
 import com.futuretech.career.model.SEO;
 import com.futuretech.career.repository.SEORepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class SEOService {
     
+    public static final String RESPONSE_FAMILY = "seo";
+    
     private final SEORepository seoRepository;
+    private final PublicResponseCache responseCache;
+    
+    // Public reads are served from this immutable snapshot; admin writes swap in a new one
+    private volatile Map<String, SEO> snapshot;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadSnapshot() {
+        Map<String, SEO> byPage = new HashMap<>();
+        seoRepository.findAll().forEach(seo -> byPage.put(seo.getPage(), seo));
+        snapshot = Map.copyOf(byPage);
+    }
     
     public SEO getSEOByPage(String page) {
-        return seoRepository.findByPage(page)
-                .orElseThrow(() -> new ResourceNotFoundException("SEO metadata not found for page: " + page));
+        SEO seo = snapshot().get(page);
+        if (seo == null) {
+            throw new ResourceNotFoundException("SEO metadata not found for page: " + page);
+        }
+        return seo;
     }
     
     public SEO updateSEO(String page, SEO updates) {
@@ -34,6 +55,28 @@ public class SEOService {
             seo.setOgImage(updates.getOgImage());
         }
         
-        return seoRepository.save(seo);
+        SEO saved = seoRepository.save(seo);
+        replaceInSnapshot(saved);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        return saved;
+    }
+    
+    private Map<String, SEO> snapshot() {
+        Map<String, SEO> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    loadSnapshot();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+    
+    private synchronized void replaceInSnapshot(SEO saved) {
+        Map<String, SEO> byPage = new HashMap<>(snapshot());
+        byPage.put(saved.getPage(), saved);
+        snapshot = Map.copyOf(byPage);
     }
 }
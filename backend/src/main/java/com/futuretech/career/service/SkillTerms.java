@@ -0,0 +1,58 @@
+package com.futuretech.career.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalizes free-text skill lists ("Java, Spring Boot / React") into index terms. Every
+ * phrase is a term, and so is each word of a multi-word phrase, so "spring" finds
+ * "Spring Boot".
+ */
+final class SkillTerms {
+    
+    private static final String SEPARATORS = "[,;|/\\n]";
+    
+    private SkillTerms() {
+    }
+    
+    static Set<String> of(String skills) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (skills == null) {
+            return terms;
+        }
+        for (String part : skills.split(SEPARATORS)) {
+            String phrase = normalize(part);
+            if (phrase.isEmpty()) {
+                continue;
+            }
+            terms.add(phrase);
+            if (phrase.indexOf(' ') > 0) {
+                for (String word : phrase.split(" ")) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms;
+    }
+    
+    static List<String> query(String skills) {
+        List<String> terms = new ArrayList<>();
+        if (skills == null) {
+            return terms;
+        }
+        for (String part : skills.split(SEPARATORS)) {
+            String phrase = normalize(part);
+            if (!phrase.isEmpty() && !terms.contains(phrase)) {
+                terms.add(phrase);
+            }
+        }
+        return terms;
+    }
+    
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package com.futuretech.career.service;
 
+import com.futuretech.career.dto.PaginationResponse;
 import com.futuretech.career.dto.TestimonialRequest;
 import com.futuretech.career.exception.ResourceNotFoundException;
 import com.futuretech.career.model.Testimonial;
@@ -8,6 +9,9 @@ import com.futuretech.career.repository.TestimonialRepository;
 import com.futuretech.career.repository.FeedbackRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +19,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,15 +29,76 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TestimonialService {
     
+    public static final String RESPONSE_FAMILY = "testimonials";
+    
     private final TestimonialRepository testimonialRepository;
     private final FeedbackRepository feedbackRepository;
+    private final PublicResponseCache responseCache;
+    private final DashboardCounters dashboardCounters;
+    
+    @Value("${app.testimonials.recent-size:20}")
+    private int recentSize;
+    
+    // Newest active testimonials, newest first; replaced wholesale after each committed write
+    private volatile List<Testimonial> recentActive;
+    
+    // Approved feedback in public testimonial form, newest first; maintained by approve/reject
+    private volatile List<Testimonial> approvedFeed;
     
     public List<Testimonial> getApprovedTestimonials() {
+        return approvedFeed();
+    }
+    
+    public PaginationResponse<Testimonial> getApprovedTestimonials(int page, int size) {
+        List<Testimonial> feed = approvedFeed();
+        int from = (int) Math.min((long) Math.max(page, 0) * size, feed.size());
+        int to = (int) Math.min((long) from + size, feed.size());
+        return new PaginationResponse<>(
+                feed.subList(from, to),
+                page,
+                size,
+                feed.size(),
+                (feed.size() + size - 1) / size
+        );
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadApprovedFeed() {
         // Get approved feedback and convert to Testimonial format
         List<Feedback> approvedFeedback = feedbackRepository.findByStatusOrderByCreatedAtDesc("approved");
-        return approvedFeedback.stream()
+        approvedFeed = approvedFeedback.stream()
                 .map(this::convertFeedbackToTestimonial)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+    }
+    
+    /**
+     * Adds or removes a feedback entry from the approved feed once its status change commits.
+     */
+    public void trackFeedbackStatus(Feedback feedback) {
+        AfterCommit.run(() -> applyToApprovedFeed(feedback));
+    }
+    
+    private List<Testimonial> approvedFeed() {
+        List<Testimonial> current = approvedFeed;
+        if (current == null) {
+            synchronized (this) {
+                if (approvedFeed == null) {
+                    loadApprovedFeed();
+                }
+                current = approvedFeed;
+            }
+        }
+        return current;
+    }
+    
+    private synchronized void applyToApprovedFeed(Feedback feedback) {
+        List<Testimonial> next = new ArrayList<>(approvedFeed());
+        next.removeIf(t -> t.getId().equals(feedback.getId()));
+        if ("approved".equals(feedback.getStatus())) {
+            next.add(convertFeedbackToTestimonial(feedback));
+            next.sort(Comparator.comparing(Testimonial::getCreatedAt).reversed());
+        }
+        approvedFeed = List.copyOf(next);
     }
     
     private Testimonial convertFeedbackToTestimonial(Feedback feedback) {
@@ -52,14 +119,71 @@ public class TestimonialService {
     
     public List<Testimonial> getActiveTestimonials(Integer limit) {
         if (limit != null && limit > 0) {
-            return testimonialRepository.findByIsActiveTrueOrderByCreatedAtDesc()
-                    .stream()
-                    .limit(limit)
-                    .toList();
+            if (limit <= recentSize) {
+                List<Testimonial> recent = recentActive();
+                return recent.subList(0, Math.min(limit, recent.size()));
+            }
+            return testimonialRepository.findByIsActiveTrueOrderByCreatedAtDesc(PageRequest.of(0, limit));
         }
         return testimonialRepository.findByIsActiveTrueOrderByCreatedAtDesc();
     }
     
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadRecentActive() {
+        recentActive = List.copyOf(testimonialRepository.findByIsActiveTrueOrderByCreatedAtDesc(PageRequest.of(0, recentSize)));
+    }
+    
+    /**
+     * Folds a saved testimonial into the newest-active ring once the transaction commits.
+     * Also used by feedback approval, which creates testimonials outside this service.
+     */
+    public void trackSaved(Testimonial testimonial) {
+        AfterCommit.run(() -> applyToRecent(testimonial.getId(), testimonial));
+    }
+    
+    private void trackDeleted(String id) {
+        AfterCommit.run(() -> applyToRecent(id, null));
+    }
+    
+    private List<Testimonial> recentActive() {
+        List<Testimonial> current = recentActive;
+        if (current == null) {
+            synchronized (this) {
+                if (recentActive == null) {
+                    loadRecentActive();
+                }
+                current = recentActive;
+            }
+        }
+        return current;
+    }
+    
+    private synchronized void applyToRecent(String id, Testimonial saved) {
+        List<Testimonial> current = recentActive();
+        List<Testimonial> next = new ArrayList<>(current);
+        boolean removed = next.removeIf(t -> t.getId().equals(id));
+        boolean added = false;
+        
+        if (saved != null && Boolean.TRUE.equals(saved.getIsActive())) {
+            Testimonial oldest = next.isEmpty() ? null : next.get(next.size() - 1);
+            if (next.size() < recentSize || !saved.getCreatedAt().isBefore(oldest.getCreatedAt())) {
+                next.add(saved);
+                next.sort(Comparator.comparing(Testimonial::getCreatedAt).reversed());
+                if (next.size() > recentSize) {
+                    next = next.subList(0, recentSize);
+                }
+                added = true;
+            }
+        }
+        
+        if (removed && !added && current.size() >= recentSize) {
+            // A full window lost an entry; only the database knows what comes next
+            loadRecentActive();
+            return;
+        }
+        recentActive = List.copyOf(next);
+    }
+    
     public Page<Testimonial> getAllTestimonials(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         return testimonialRepository.findAll(pageable);
@@ -83,6 +207,9 @@ public class TestimonialService {
         testimonial.setDisplayOrder(request.getDisplayOrder());
         
         Testimonial saved = testimonialRepository.save(testimonial);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        trackSaved(saved);
+        dashboardCounters.testimonialActiveChanged(false, Boolean.TRUE.equals(saved.getIsActive()));
         log.info("Created testimonial: {}", saved.getId());
         return saved;
     }
@@ -90,6 +217,7 @@ public class TestimonialService {
     @Transactional
     public Testimonial updateTestimonial(String id, TestimonialRequest request) {
         Testimonial testimonial = getTestimonialById(id);
+        boolean wasActive = Boolean.TRUE.equals(testimonial.getIsActive());
         
         testimonial.setName(request.getName());
         testimonial.setPosition(request.getPosition());
@@ -101,6 +229,9 @@ public class TestimonialService {
         testimonial.setDisplayOrder(request.getDisplayOrder());
         
         Testimonial updated = testimonialRepository.save(testimonial);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        trackSaved(updated);
+        dashboardCounters.testimonialActiveChanged(wasActive, Boolean.TRUE.equals(updated.getIsActive()));
         log.info("Updated testimonial: {}", updated.getId());
         return updated;
     }
@@ -109,6 +240,9 @@ public class TestimonialService {
     public void deleteTestimonial(String id) {
         Testimonial testimonial = getTestimonialById(id);
         testimonialRepository.delete(testimonial);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        trackDeleted(id);
+        dashboardCounters.testimonialActiveChanged(Boolean.TRUE.equals(testimonial.getIsActive()), false);
         log.info("Deleted testimonial: {}", id);
     }
     
@@ -116,6 +250,10 @@ public class TestimonialService {
     public Testimonial toggleTestimonialStatus(String id) {
         Testimonial testimonial = getTestimonialById(id);
         testimonial.setIsActive(!testimonial.getIsActive());
-        return testimonialRepository.save(testimonial);
+        Testimonial toggled = testimonialRepository.save(testimonial);
+        responseCache.invalidate(RESPONSE_FAMILY);
+        trackSaved(toggled);
+        dashboardCounters.testimonialActiveChanged(!toggled.getIsActive(), toggled.getIsActive());
+        return toggled;
     }
 }
@@ -0,0 +1,25 @@
+-- Composite indexes backing keyset (seek) pagination on admin lists (MySQL)
+-- MySQL has no CREATE INDEX IF NOT EXISTS, and Hibernate may already have created them from the
+-- entity mappings, so each index is only created when information_schema does not list it.
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'candidates'
+                  AND INDEX_NAME = 'idx_candidates_applied_id') > 0,
+               'DO 0', 'CREATE INDEX idx_candidates_applied_id ON candidates(applied_at, id)');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'job_openings'
+                  AND INDEX_NAME = 'idx_job_openings_created_id') > 0,
+               'DO 0', 'CREATE INDEX idx_job_openings_created_id ON job_openings(created_at, id)');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'contracts'
+                  AND INDEX_NAME = 'idx_contracts_created_id') > 0,
+               'DO 0', 'CREATE INDEX idx_contracts_created_id ON contracts(created_at, id)');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- PostgreSQL supports the guard natively:
+--   CREATE INDEX IF NOT EXISTS idx_candidates_applied_id ON candidates(applied_at, id);
+--   (likewise idx_job_openings_created_id and idx_contracts_created_id)
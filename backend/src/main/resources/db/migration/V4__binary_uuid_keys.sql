@@ -0,0 +1,111 @@
+-- Convert VARCHAR(36) UUID keys to BINARY(16) for app.ids.storage=binary (MySQL)
+-- Covers the write-heavy tables and every foreign key that points at them:
+-- job_openings <- candidates, clients <- contracts / resource_requirements, and inquiries.
+
+-- Drop the foreign keys whose column types change (names differ between DDL and Hibernate-created schemas)
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'candidates'
+              AND COLUMN_NAME = 'job_opening_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE candidates DROP FOREIGN KEY `', @fk, '`'));
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'contracts'
+              AND COLUMN_NAME = 'client_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE contracts DROP FOREIGN KEY `', @fk, '`'));
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @fk := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'resource_requirements'
+              AND COLUMN_NAME = 'client_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE resource_requirements DROP FOREIGN KEY `', @fk, '`'));
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- Job Openings
+ALTER TABLE job_openings ADD COLUMN id_bin BINARY(16);
+UPDATE job_openings SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE job_openings DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE job_openings CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- Candidates
+ALTER TABLE candidates ADD COLUMN id_bin BINARY(16), ADD COLUMN job_opening_id_bin BINARY(16);
+UPDATE candidates SET id_bin = UNHEX(REPLACE(id, '-', '')),
+                      job_opening_id_bin = UNHEX(REPLACE(job_opening_id, '-', ''));
+ALTER TABLE candidates DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN job_opening_id;
+ALTER TABLE candidates CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+                       CHANGE COLUMN job_opening_id_bin job_opening_id BINARY(16) NOT NULL AFTER id,
+                       ADD PRIMARY KEY (id);
+
+-- Clients
+ALTER TABLE clients ADD COLUMN id_bin BINARY(16);
+UPDATE clients SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE clients DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE clients CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- Contracts
+ALTER TABLE contracts ADD COLUMN id_bin BINARY(16), ADD COLUMN client_id_bin BINARY(16);
+UPDATE contracts SET id_bin = UNHEX(REPLACE(id, '-', '')),
+                     client_id_bin = UNHEX(REPLACE(client_id, '-', ''));
+ALTER TABLE contracts DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN client_id;
+ALTER TABLE contracts CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+                      CHANGE COLUMN client_id_bin client_id BINARY(16) NOT NULL AFTER id,
+                      ADD PRIMARY KEY (id);
+
+-- Resource Requirements
+ALTER TABLE resource_requirements ADD COLUMN id_bin BINARY(16), ADD COLUMN client_id_bin BINARY(16);
+UPDATE resource_requirements SET id_bin = UNHEX(REPLACE(id, '-', '')),
+                                 client_id_bin = UNHEX(REPLACE(client_id, '-', ''));
+ALTER TABLE resource_requirements DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN client_id;
+ALTER TABLE resource_requirements CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+                                  CHANGE COLUMN client_id_bin client_id BINARY(16) NOT NULL AFTER id,
+                                  ADD PRIMARY KEY (id);
+
+-- Inquiries
+ALTER TABLE inquiries ADD COLUMN id_bin BINARY(16);
+UPDATE inquiries SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE inquiries DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE inquiries CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+-- Indexes that lost their id column, plus the dropped foreign key indexes. Dropping a column
+-- shrinks the composite indexes to (applied_at) / (created_at) rather than removing them, but they
+-- may never have been created, so each drop is guarded like the foreign key drops above.
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'candidates'
+                  AND INDEX_NAME = 'idx_candidates_applied_id') > 0,
+               'DROP INDEX idx_candidates_applied_id ON candidates', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+CREATE INDEX idx_candidates_applied_id ON candidates(applied_at, id);
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'contracts'
+                  AND INDEX_NAME = 'idx_contracts_created_id') > 0,
+               'DROP INDEX idx_contracts_created_id ON contracts', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+CREATE INDEX idx_contracts_created_id ON contracts(created_at, id);
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'job_openings'
+                  AND INDEX_NAME = 'idx_job_openings_created_id') > 0,
+               'DROP INDEX idx_job_openings_created_id ON job_openings', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+CREATE INDEX idx_job_openings_created_id ON job_openings(created_at, id);
+SET @ddl := IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'inquiries'
+                  AND INDEX_NAME = 'idx_inquiries_created_id') > 0,
+               'DROP INDEX idx_inquiries_created_id ON inquiries', 'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+CREATE INDEX idx_inquiries_created_id ON inquiries(created_at, id);
+CREATE INDEX idx_candidates_job ON candidates(job_opening_id);
+CREATE INDEX idx_contracts_client ON contracts(client_id);
+CREATE INDEX idx_resource_requirements_client ON resource_requirements(client_id);
+
+ALTER TABLE candidates ADD CONSTRAINT fk_candidates_job_opening
+    FOREIGN KEY (job_opening_id) REFERENCES job_openings(id) ON DELETE CASCADE;
+ALTER TABLE contracts ADD CONSTRAINT fk_contracts_client
+    FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE CASCADE;
+ALTER TABLE resource_requirements ADD CONSTRAINT fk_resource_requirements_client
+    FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE CASCADE;
+
+-- PostgreSQL (app.ids.storage=native) only needs the foreign keys dropped and the types changed in place:
+--   ALTER TABLE job_openings ALTER COLUMN id TYPE uuid USING id::uuid;
+--   ALTER TABLE candidates ALTER COLUMN id TYPE uuid USING id::uuid,
+--                          ALTER COLUMN job_opening_id TYPE uuid USING job_opening_id::uuid;
+--   (likewise clients, contracts.client_id, resource_requirements.client_id and inquiries), then re-add the foreign keys.
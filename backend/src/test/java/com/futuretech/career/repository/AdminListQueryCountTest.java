@@ -0,0 +1,161 @@
+package com.futuretech.career.repository;
+
+import com.futuretech.career.model.Candidate;
+import com.futuretech.career.model.Client;
+import com.futuretech.career.model.Company;
+import com.futuretech.career.model.Contract;
+import com.futuretech.career.model.JobOpening;
+import com.futuretech.career.model.ResourceRequirement;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the admin list queries against N+1 selects: each one must load a page, including
+ * the associated row it shows (job opening, client, company), in a single statement.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AdminListQueryCountTest {
+    
+    private static final int ROWS = 5;
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private CandidateRepository candidateRepository;
+    
+    @Autowired
+    private ContractRepository contractRepository;
+    
+    @Autowired
+    private ResourceRequirementRepository resourceRequirementRepository;
+    
+    @Autowired
+    private JobOpeningRepository jobOpeningRepository;
+    
+    private Statistics statistics;
+    private String jobOpeningId;
+    private String clientId;
+    
+    @BeforeEach
+    void setUp() {
+        // One parent per row, so a per-row association load would show up as extra statements
+        for (int i = 0; i < ROWS; i++) {
+            Company company = new Company();
+            company.setName("Company " + i);
+            entityManager.persist(company);
+            
+            JobOpening jobOpening = new JobOpening();
+            jobOpening.setTitle("Engineer " + i);
+            jobOpening.setDepartment("Engineering");
+            jobOpening.setCompany(company);
+            entityManager.persist(jobOpening);
+            jobOpeningId = jobOpening.getId();
+            
+            Candidate candidate = new Candidate();
+            candidate.setName("Candidate " + i);
+            candidate.setEmail("candidate" + i + "@example.com");
+            candidate.setJobOpening(jobOpening);
+            entityManager.persist(candidate);
+            
+            Client client = new Client();
+            client.setName("Client " + i);
+            entityManager.persist(client);
+            clientId = client.getId();
+            
+            Contract contract = new Contract();
+            contract.setName("Contract " + i);
+            contract.setClient(client);
+            contract.setStartDate(LocalDate.now().minusMonths(1));
+            contract.setEndDate(LocalDate.now().plusDays(10));
+            entityManager.persist(contract);
+            
+            ResourceRequirement requirement = new ResourceRequirement();
+            requirement.setRole("Developer " + i);
+            requirement.setClient(client);
+            entityManager.persist(requirement);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+    
+    @Test
+    void candidateListsUseOneStatement() {
+        Pageable byApplied = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "appliedAt"));
+        assertSingleStatement(() -> candidateRepository.findSummaries(byApplied).getContent());
+        assertSingleStatement(() -> candidateRepository.findSummariesByJobOpeningId(jobOpeningId, byApplied).getContent());
+        assertSingleStatement(() -> candidateRepository.findSummariesByInterviewStage("screening", byApplied).getContent());
+        assertSingleStatement(() -> candidateRepository.findSummariesByFinalStatus("in-progress", byApplied).getContent());
+        assertSingleStatement(() -> candidateRepository.findPageAfter(LocalDateTime.now().plusDays(1), "", null, null, null,
+                PageRequest.of(0, 20)));
+    }
+    
+    @Test
+    void contractListsUseOneStatement() {
+        assertSingleStatement(() -> contractRepository.findSummaries(PAGE).getContent());
+        assertSingleStatement(() -> contractRepository.findSummariesByClientId(clientId, PAGE).getContent());
+        assertSingleStatement(() -> contractRepository.findSummariesByStatus("active", PAGE).getContent());
+        assertSingleStatement(() -> contractRepository.findExpiringContracts(LocalDate.now(), LocalDate.now().plusDays(30)));
+        assertSingleStatement(() -> contractRepository.findPageAfter(LocalDateTime.now().plusDays(1), "", null, null,
+                PageRequest.of(0, 20)));
+    }
+    
+    @Test
+    void resourceRequirementListsUseOneStatement() {
+        assertSingleStatement(() -> resourceRequirementRepository.findSummaries(PAGE).getContent());
+        assertSingleStatement(() -> resourceRequirementRepository.findSummariesByClientId(clientId, PAGE).getContent());
+        assertSingleStatement(() -> resourceRequirementRepository.findSummariesByStatus("open", PAGE).getContent());
+        assertSingleStatement(() -> resourceRequirementRepository.findSummariesByStatus("open"));
+    }
+    
+    @Test
+    void jobOpeningListsUseOneStatement() {
+        assertSingleStatement(() -> touchCompanies(jobOpeningRepository.findSliceBy(PAGE).getContent()));
+        assertSingleStatement(() -> touchCompanies(jobOpeningRepository.findSliceByStatus("open", PAGE).getContent()));
+        assertSingleStatement(() -> touchCompanies(jobOpeningRepository.findSliceByDepartment("Engineering", PAGE).getContent()));
+        assertSingleStatement(() -> touchCompanies(
+                jobOpeningRepository.findSliceByStatusAndDepartment("open", "Engineering", PAGE).getContent()));
+        assertSingleStatement(() -> touchCompanies(jobOpeningRepository.findPageAfter(LocalDateTime.now().plusDays(1), "",
+                null, null, PageRequest.of(0, 20))));
+    }
+    
+    // Reads the association the way JSON serialization of the row would
+    private static List<JobOpening> touchCompanies(List<JobOpening> jobOpenings) {
+        jobOpenings.forEach(jobOpening -> jobOpening.getCompany().getName());
+        return jobOpenings;
+    }
+    
+    private void assertSingleStatement(Supplier<? extends Collection<?>> query) {
+        entityManager.clear();
+        statistics.clear();
+        Collection<?> rows = query.get();
+        assertThat(rows).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}